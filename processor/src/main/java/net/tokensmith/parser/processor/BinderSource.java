@@ -0,0 +1,145 @@
+package net.tokensmith.parser.processor;
+
+import javax.lang.model.util.Elements;
+import java.util.List;
+
+
+/**
+ * Writes the source of a generated binder.
+ */
+public class BinderSource {
+    private static String BINDER = "net.tokensmith.parser.binder.Binder";
+    private static String BINDER_FACTORY = "net.tokensmith.parser.binder.BinderFactory";
+    private static String FIELD_STEP = "net.tokensmith.parser.binder.FieldStep";
+    private static String INPUT = "net.tokensmith.parser.binder.Input";
+    private static String ERRORS = "java.util.List<net.tokensmith.parser.FieldError>";
+    private static String PARSE_EXCEPTION = "net.tokensmith.parser.exception.ParseException";
+    private static String BIND_EXCEPTIONS = "net.tokensmith.parser.exception.RequiredException, net.tokensmith.parser.exception.OptionalException, net.tokensmith.parser.exception.ParseException";
+
+    private String packageName;
+    private String simpleName;
+    private String targetType;
+    private List<FieldSource> fields;
+
+    public BinderSource(String packageName, String simpleName, String targetType, List<FieldSource> fields) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.targetType = targetType;
+        this.fields = fields;
+    }
+
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    public String toSource(Elements elements) {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+
+        out.append("@javax.annotation.processing.Generated(\"").append(ParameterProcessor.class.getName()).append("\")\n");
+        out.append("@SuppressWarnings(\"unchecked\")\n");
+        out.append("public final class ").append(simpleName)
+            .append(" implements ").append(BINDER).append("<").append(targetType).append("> {\n");
+
+        out.append("    private static final String TO_OBJ_ERROR = \"Could not construct to object\";\n");
+        out.append("\n");
+        for(int i = 0; i < fields.size(); i++) {
+            out.append("    private final ").append(FIELD_STEP).append(" step").append(i)
+                .append("; // ").append(fields.get(i).name).append("\n");
+        }
+        out.append("\n");
+
+        out.append("    public ").append(simpleName).append("(").append(BINDER_FACTORY).append(" factory)")
+            .append(" throws net.tokensmith.parser.exception.ReflectException {\n");
+        for(int i = 0; i < fields.size(); i++) {
+            out.append("        this.step").append(i).append(" = ").append(step(fields.get(i), elements)).append(";\n");
+        }
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public ").append(targetType).append(" bind(").append(INPUT).append(" from, ").append(ERRORS).append(" errors)")
+            .append(" throws ").append(BIND_EXCEPTIONS).append(" {\n");
+        out.append("        ").append(targetType).append(" to;\n");
+        out.append("        try {\n");
+        out.append("            to = new ").append(targetType).append("();\n");
+        out.append("        } catch (RuntimeException e) {\n");
+        out.append("            throw new ").append(PARSE_EXCEPTION).append("(TO_OBJ_ERROR, e);\n");
+        out.append("        }\n");
+        out.append("        return into(to, from, errors);\n");
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public ").append(targetType).append(" into(").append(targetType).append(" to, ").append(INPUT).append(" from, ").append(ERRORS).append(" errors)")
+            .append(" throws ").append(BIND_EXCEPTIONS).append(" {\n");
+        for(int i = 0; i < fields.size(); i++) {
+            FieldSource field = fields.get(i);
+            String value;
+            if (field.kind == FieldSource.Kind.NESTED) {
+                value = "(" + field.valueType + ") this.step" + i + ".into(" + field.read + ", to, from, errors)";
+            } else {
+                value = "(" + field.valueType + ") this.step" + i + ".value(to, from, errors)";
+            }
+            out.append("        ").append(String.format(field.assign, value)).append(";\n");
+        }
+        out.append("        return to;\n");
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public ").append(FIELD_STEP).append("[] getSteps() {\n");
+        out.append("        return new ").append(FIELD_STEP).append("[] {");
+        for(int i = 0; i < fields.size(); i++) {
+            out.append(i > 0 ? ", " : "").append("step").append(i);
+        }
+        out.append("};\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    protected String step(FieldSource field, Elements elements) {
+        String param = elements.getConstantExpression(field.param);
+        String name = elements.getConstantExpression(field.name);
+
+        if (field.kind == FieldSource.Kind.NESTED) {
+            return String.format(
+                "factory.nested(%s, %s, %s, %s, factory.binder(%s.class))",
+                name, param, field.required, field.optional, field.nestedType
+            );
+        }
+
+        StringBuilder expected = new StringBuilder("new java.lang.String[] {");
+        for(int i = 0; i < field.expected.size(); i++) {
+            if (i > 0) {
+                expected.append(", ");
+            }
+            expected.append(elements.getConstantExpression(field.expected.get(i)));
+        }
+        expected.append("}");
+
+        String builder = "s -> null";
+        if (field.builderType != null) {
+            builder = "factory.builder(" + elements.getConstantExpression(field.builderType) + ")";
+        }
+
+        switch (field.kind) {
+            case LIST:
+                return String.format(
+                    "factory.list(%s, %s, %s, %s, %s, %s, %s, %s)",
+                    name, param, field.required, field.allowMany, expected, field.parsable,
+                    elements.getConstantExpression(field.delimiter), builder
+                );
+            case OPTIONAL:
+                return String.format(
+                    "factory.optional(%s, %s, %s, %s, %s, %s)",
+                    name, param, field.required, field.allowMany, expected, builder
+                );
+            default:
+                return String.format(
+                    "factory.reference(%s, %s, %s, %s, %s, %s)",
+                    name, param, field.required, field.allowMany, expected, builder
+                );
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package net.tokensmith.parser.processor;
+
+import java.util.List;
+
+
+/**
+ * What the processor found out about a @Parameter field.
+ */
+public class FieldSource {
+    public enum Kind { REFERENCE, OPTIONAL, LIST, NESTED }
+
+    public Kind kind;
+    public String name;
+    public String param;
+    public boolean required;
+    public boolean allowMany;
+    public boolean parsable;
+    public boolean optional;
+    public String delimiter;
+    public List<String> expected;
+    public String valueType; // source type of the field, java.util.List<java.lang.String>
+    public String builderType; // binary name for BinderFactory.builder, null if it does not need one.
+    public String nestedType; // canonical name of the nested class.
+    public String assign; // to.name = %s
+    public String read; // to.name
+}
@@ -0,0 +1,296 @@
+package net.tokensmith.parser.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Generates a Binder for each class that has fields annotated with @Parameter. The binder does what
+ * ReflectParameter.reflect and Parser.toFromGraph do, without reflecting the class at runtime.
+ *
+ * A class is skipped, and reflected at runtime, when the generated binder could not construct it
+ * or assign one of its fields directly. Such as, a private class, no accessible no-arg constructor,
+ * or a private or final field.
+ */
+@SupportedAnnotationTypes(ParameterProcessor.PARAMETER)
+public class ParameterProcessor extends AbstractProcessor {
+    public static final String PARAMETER = "net.tokensmith.parser.Parameter";
+    public static final String SUFFIX = "_ParamBinder";
+    private static final String LIST = "java.util.List";
+    private static final String OPTIONAL = "java.util.Optional";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Set<String> written = new HashSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement parameter = elements.getTypeElement(PARAMETER);
+        if (parameter == null) {
+            return false;
+        }
+
+        Set<TypeElement> targets = new LinkedHashSet<>();
+        for(Element element: roundEnv.getElementsAnnotatedWith(parameter)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                targets.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for(TypeElement target: targets) {
+            if (!written.add(target.getQualifiedName().toString())) {
+                continue;
+            }
+            BinderSource source = binderSource(target, parameter);
+            if (source != null) {
+                write(source, target);
+            }
+        }
+        return false;
+    }
+
+    protected BinderSource binderSource(TypeElement target, TypeElement parameter) {
+        PackageElement pkg = elements.getPackageOf(target);
+
+        if (target.getKind() != ElementKind.CLASS || target.getModifiers().contains(Modifier.ABSTRACT)) {
+            return skip(target, "it is not a concrete class");
+        }
+        if (!target.getTypeParameters().isEmpty()) {
+            return skip(target, "it has type parameters");
+        }
+        if (!accessibleType(target, pkg)) {
+            return skip(target, "it is not accessible");
+        }
+        if (!hasNoArgConstructor(target, pkg)) {
+            return skip(target, "it does not have an accessible no-arg constructor");
+        }
+
+        List<VariableElement> fields = new ArrayList<>();
+        collectFields(target, parameter, fields);
+
+        List<FieldSource> fieldSources = new ArrayList<>();
+        for(VariableElement field: fields) {
+            FieldSource fieldSource = fieldSource(target, pkg, field, parameter);
+            if (fieldSource == null) {
+                return skip(target, String.format("field %s can not be assigned", field.getSimpleName()));
+            }
+            fieldSources.add(fieldSource);
+        }
+
+        String binaryName = elements.getBinaryName(target).toString();
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+        return new BinderSource(
+            packageName,
+            simpleName.replace('$', '_') + SUFFIX,
+            target.getQualifiedName().toString(),
+            fieldSources
+        );
+    }
+
+    // super class fields first, same as ReflectParameter.
+    protected void collectFields(TypeElement type, TypeElement parameter, List<VariableElement> fields) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            collectFields((TypeElement) types.asElement(superclass), parameter, fields);
+        }
+        for(VariableElement field: ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (mirrorOf(field, parameter) != null) {
+                fields.add(field);
+            }
+        }
+    }
+
+    protected FieldSource fieldSource(TypeElement target, PackageElement pkg, VariableElement field, TypeElement parameter) {
+        TypeMirror type = field.asType();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        Map<String, Object> values = values(mirrorOf(field, parameter));
+        String name = field.getSimpleName().toString();
+
+        DeclaredType declared = (DeclaredType) type;
+        String rawType = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        boolean parameterized = !declared.getTypeArguments().isEmpty();
+        TypeMirror argType = parameterized ? declared.getTypeArguments().get(0) : type;
+        if (argType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement argElement = (TypeElement) types.asElement(argType);
+
+        String assign = assignment(field, pkg);
+        if (assign == null) {
+            return null;
+        }
+
+        FieldSource fieldSource = new FieldSource();
+        fieldSource.name = name;
+        fieldSource.param = (String) values.get("name");
+        fieldSource.required = (Boolean) values.get("required");
+        fieldSource.allowMany = (Boolean) values.get("allowMany");
+        fieldSource.parsable = (Boolean) values.get("parsable");
+        fieldSource.delimiter = (String) values.get("delimiter");
+        fieldSource.expected = new ArrayList<>();
+        for(Object expected: (List<?>) values.get("expected")) {
+            fieldSource.expected.add((String) ((AnnotationValue) expected).getValue());
+        }
+        fieldSource.valueType = type.toString();
+        fieldSource.assign = assign;
+        fieldSource.optional = parameterized && OPTIONAL.equals(rawType);
+
+        boolean nested = (Boolean) values.get("nested");
+        if (nested && hasParameters(argElement, parameter)) {
+            if (!accessibleType(argElement, pkg)) {
+                return null;
+            }
+            fieldSource.kind = FieldSource.Kind.NESTED;
+            fieldSource.nestedType = argElement.getQualifiedName().toString();
+            fieldSource.read = "to." + name;
+        } else {
+            if (parameterized && LIST.equals(rawType)) {
+                fieldSource.kind = FieldSource.Kind.LIST;
+            } else if (fieldSource.optional) {
+                fieldSource.kind = FieldSource.Kind.OPTIONAL;
+            } else {
+                fieldSource.kind = FieldSource.Kind.REFERENCE;
+            }
+            // nested fields without @Parameter fields of their own do not need a builder.
+            fieldSource.builderType = nested ? null : elements.getBinaryName(argElement).toString();
+        }
+        return fieldSource;
+    }
+
+    // the generated binder assigns the field directly, null if it can not.
+    protected String assignment(VariableElement field, PackageElement pkg) {
+        if (!accessibleMember(field, pkg) || field.getModifiers().contains(Modifier.FINAL)) {
+            return null;
+        }
+        return "to." + field.getSimpleName() + " = %s";
+    }
+
+    protected boolean hasNoArgConstructor(TypeElement target, PackageElement pkg) {
+        for(ExecutableElement ctor: ElementFilter.constructorsIn(target.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && accessibleMember(ctor, pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasParameters(TypeElement type, TypeElement parameter) {
+        List<VariableElement> fields = new ArrayList<>();
+        collectFields(type, parameter, fields);
+        return !fields.isEmpty();
+    }
+
+    protected boolean accessibleType(TypeElement type, PackageElement pkg) {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return false;
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER) {
+            if (!type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            if (!accessibleType((TypeElement) type.getEnclosingElement(), pkg)) {
+                return false;
+            }
+        }
+        return visible(type, pkg);
+    }
+
+    protected boolean accessibleMember(Element member, PackageElement pkg) {
+        return visible(member, pkg) && accessibleType((TypeElement) member.getEnclosingElement(), pkg);
+    }
+
+    protected boolean visible(Element element, PackageElement pkg) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || elements.getPackageOf(element).equals(pkg);
+    }
+
+    protected AnnotationMirror mirrorOf(Element element, TypeElement annotation) {
+        for(AnnotationMirror mirror: element.getAnnotationMirrors()) {
+            if (types.isSameType(mirror.getAnnotationType(), annotation.asType())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    protected Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry: elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+
+    protected BinderSource skip(TypeElement target, String reason) {
+        messager.printMessage(
+            Diagnostic.Kind.NOTE,
+            String.format("No binder generated for %s, %s. It will be reflected at runtime.", target.getQualifiedName(), reason),
+            target
+        );
+        return null;
+    }
+
+    protected void write(BinderSource source, TypeElement target) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(source.getQualifiedName(), target);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toSource(elements));
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write binder: " + e.getMessage(), target);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.validator.ErrorCode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * What Parser.toAll returns, a ParseResult for each item in the order they were given and a
+ * summary of the failures.
+ *
+ * @param <T> the type translated to
+ */
+public class BatchResult<T> {
+    private List<ParseResult<T>> results;
+    private int failed;
+    private Map<ErrorCode, Integer> errorCounts;
+
+    public BatchResult(List<ParseResult<T>> results) {
+        this.results = Collections.unmodifiableList(results);
+
+        Map<ErrorCode, Integer> counts = new EnumMap<>(ErrorCode.class);
+        for(ParseResult<T> result: results) {
+            if (result.isOk()) {
+                continue;
+            }
+            failed++;
+            for(FieldError error: result.getErrors()) {
+                counts.merge(error.getCode(), 1, Integer::sum);
+            }
+        }
+        this.errorCounts = Collections.unmodifiableMap(counts);
+    }
+
+    public List<ParseResult<T>> getResults() {
+        return results;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * @return the number of items that had errors.
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the number of field errors for each ErrorCode that occurred.
+     */
+    public Map<ErrorCode, Integer> getErrorCounts() {
+        return errorCounts;
+    }
+}
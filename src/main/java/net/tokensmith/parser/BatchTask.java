@@ -0,0 +1,58 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.UncheckedParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Translates a range of the items given to Parser.toAll. The range is split in half until it is
+ * no larger than threshold, then each item is written to results at its own index.
+ */
+class BatchTask<T> extends RecursiveAction {
+    private Parser parser;
+    private Schema schema;
+    private Class<T> clazz;
+    private List<Map<String, List<String>>> from;
+    private ParseResult<T>[] results;
+    private int start;
+    private int end;
+    private int threshold;
+
+    BatchTask(Parser parser, Schema schema, Class<T> clazz, List<Map<String, List<String>>> from, ParseResult<T>[] results, int start, int end, int threshold) {
+        this.parser = parser;
+        this.schema = schema;
+        this.clazz = clazz;
+        this.from = from;
+        this.results = results;
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start > threshold) {
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                new BatchTask<>(parser, schema, clazz, from, results, start, middle, threshold),
+                new BatchTask<>(parser, schema, clazz, from, results, middle, end, threshold)
+            );
+            return;
+        }
+
+        // scratch for the errors of each item, only copied when an item has errors.
+        List<FieldError> errors = new ArrayList<>();
+        try {
+            for(int i = start; i < end; i++) {
+                results[i] = parser.tryTo(schema, clazz, from.get(i), errors);
+            }
+        } catch (ParseException e) {
+            throw new UncheckedParseException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.validator.ErrorCode;
+
+
+/**
+ * A field whose input is invalid.
+ */
+public class FieldError {
+    private String field;
+    private String param;
+    private ErrorCode code;
+
+    public FieldError(String field, String param, ErrorCode code) {
+        this.field = field;
+        this.param = param;
+        this.code = code;
+    }
+
+    /**
+     * @param parent the param of the nested field this error is in
+     * @return this error with the param prefixed by parent, such as, nested.string
+     */
+    public FieldError nested(String parent) {
+        return new FieldError(field, parent + "." + param, code);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s. field: %s, param: %s", code, field, param);
+    }
+}
@@ -0,0 +1,68 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.factory.nested.NestedTypeSetter;
+import net.tokensmith.parser.factory.simple.TypeParser;
+
+
+/**
+ * What Parser.toFromGraph needs to translate one field, decided once when the field is reflected.
+ * The only choice left when translating is if the input is present or absent.
+ */
+public final class FieldPlan {
+    private final FieldRules rules;
+    private final boolean nested;
+    private final TypeParser presentParser;
+    private final TypeParser absentParser;
+    private final NestedTypeSetter nestedSetter; // input has children.
+    private final NestedTypeSetter nestedEmptySetter; // input is present without children.
+    private final NestedTypeSetter nestedAbsentSetter;
+
+    public FieldPlan(FieldRules rules, boolean nested, TypeParser presentParser, TypeParser absentParser, NestedTypeSetter nestedSetter, NestedTypeSetter nestedEmptySetter, NestedTypeSetter nestedAbsentSetter) {
+        this.rules = rules;
+        this.nested = nested;
+        this.presentParser = presentParser;
+        this.absentParser = absentParser;
+        this.nestedSetter = nestedSetter;
+        this.nestedEmptySetter = nestedEmptySetter;
+        this.nestedAbsentSetter = nestedAbsentSetter;
+    }
+
+    /**
+     * @return the rules of the field. Both the reflective parsers and the binder step of the field
+     * use them, so its expected values are compiled once.
+     */
+    public FieldRules getRules() {
+        return rules;
+    }
+
+    public String getFieldName() {
+        return rules.getFieldName();
+    }
+
+    public String getParamName() {
+        return rules.getParamName();
+    }
+
+    public boolean isRequired() {
+        return rules.isRequired();
+    }
+
+    public boolean isAllowMany() {
+        return rules.isAllowMany();
+    }
+
+    public boolean isNested() {
+        return nested;
+    }
+
+    public TypeParser getParser(boolean inputEmpty) {
+        return inputEmpty ? absentParser : presentParser;
+    }
+
+    public NestedTypeSetter getNestedSetter(boolean present, boolean hasChildren) {
+        if (!present) {
+            return nestedAbsentSetter;
+        }
+        return hasChildren ? nestedSetter : nestedEmptySetter;
+    }
+}
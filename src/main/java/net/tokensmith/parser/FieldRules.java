@@ -0,0 +1,55 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.validator.ExpectedValues;
+
+import java.util.function.Function;
+
+
+/**
+ * The rules of a field that is not nested, what FieldValidator checks its input against and how
+ * the input is built. They are the same for the reflective parsers and the binder steps.
+ */
+public final class FieldRules {
+    private final String fieldName;
+    private final String paramName;
+    private final boolean required;
+    private final boolean allowMany;
+    private final ExpectedValues expected;
+    private final Function<String, Object> builder;
+
+    public FieldRules(String fieldName, String paramName, boolean required, boolean allowMany, ExpectedValues expected, Function<String, Object> builder) {
+        this.fieldName = fieldName;
+        this.paramName = paramName;
+        this.required = required;
+        this.allowMany = allowMany;
+        this.expected = expected;
+        this.builder = builder;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    public boolean isAllowMany() {
+        return allowMany;
+    }
+
+    /**
+     * @return the expected values of the param, compiled with their canonical instances.
+     */
+    public ExpectedValues getExpected() {
+        return expected;
+    }
+
+    public Function<String, Object> getBuilder() {
+        return builder;
+    }
+}
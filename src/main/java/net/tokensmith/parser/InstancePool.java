@@ -0,0 +1,46 @@
+package net.tokensmith.parser;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Instances given back to a pooled Parser. The pool of each class is shared by every thread and
+ * holds at most size instances, so an instance given back on one thread, or virtual thread, can be
+ * taken on another.
+ */
+public class InstancePool {
+    private int size;
+    private Map<Class<?>, ArrayBlockingQueue<Object>> pools = new ConcurrentHashMap<>();
+
+    public InstancePool(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @param clazz the class of the instance
+     * @param <T> the type of the instance
+     * @return an instance that was given back, null if there is not one.
+     */
+    public <T> T take(Class<T> clazz) {
+        ArrayBlockingQueue<Object> pool = pools.get(clazz);
+        if (pool == null) {
+            return null;
+        }
+        return clazz.cast(pool.poll());
+    }
+
+    /**
+     * @param instance the instance to keep, it is dropped if the pool for its class is full.
+     * @return true if it was kept.
+     */
+    public boolean give(Object instance) {
+        ArrayBlockingQueue<Object> pool = pools.computeIfAbsent(instance.getClass(), k -> new ArrayBlockingQueue<>(size));
+        return pool.offer(instance);
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,254 @@
+package net.tokensmith.parser;
+
+import java.net.URI;
+
+
+/**
+ * A URI that is kept as its string. When it is built the characters are checked, which is much
+ * cheaper than new URI(String). The components are only parsed when one of them is asked for.
+ *
+ * Use it instead of URI for fields that are mostly compared, such as a redirect_uri that is
+ * matched against the registered ones.
+ */
+public final class LazyURI {
+    private static String INVALID = "Invalid URI: %s";
+    // the ascii chars a URI may have, RFC 3986 unreserved, reserved and %.
+    private static boolean[] ALLOWED = new boolean[128];
+
+    static {
+        String allowed = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~:/?#[]@!$&'()*+,;=%";
+        for(int i = 0; i < allowed.length(); i++) {
+            ALLOWED[allowed.charAt(i)] = true;
+        }
+    }
+
+    private String value;
+    // made on first use, a race only makes it twice.
+    private URI uri;
+
+    private LazyURI(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @param value a URI
+     * @return the LazyURI, or null if value is not a valid URI.
+     */
+    public static LazyURI parse(String value) {
+        return isValid(value) ? new LazyURI(value) : null;
+    }
+
+    /**
+     * @param value a URI
+     * @return the LazyURI
+     * @throws IllegalArgumentException if value is not a valid URI.
+     */
+    public static LazyURI create(String value) {
+        LazyURI uri = parse(value);
+        if (uri == null) {
+            throw new IllegalArgumentException(String.format(INVALID, value));
+        }
+        return uri;
+    }
+
+    /**
+     * Checks the chars of value, the scheme if there is one and that each % is followed by two
+     * hex digits. A few errors are only found when the components are parsed, such as a bad port.
+     *
+     * @param value a URI
+     * @return true if value is not empty and is a syntactically valid URI.
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int length = value.length();
+        // until a : / ? or # is found, the chars may be a scheme.
+        boolean inScheme = true;
+        boolean scheme = true;
+        boolean fragment = false;
+        for(int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128) {
+                // URI allows other chars in components, but not controls or spaces.
+                if (Character.isISOControl(c) || Character.isSpaceChar(c)) {
+                    return false;
+                }
+                scheme = false;
+                continue;
+            }
+            if (!ALLOWED[c]) {
+                return false;
+            }
+            if (inScheme) {
+                if (c == ':') {
+                    // a : before any / ? or # ends a scheme, which needs a name and something after it.
+                    if (i == 0 || !scheme || i + 1 == length) {
+                        return false;
+                    }
+                    inScheme = false;
+                    continue;
+                } else if (c == '/' || c == '?' || c == '#') {
+                    inScheme = false;
+                } else if (!isSchemeChar(c, i)) {
+                    scheme = false;
+                }
+            }
+            if (c == '%') {
+                if (i + 2 >= length || !isHex(value.charAt(i + 1)) || !isHex(value.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+            } else if (c == '#') {
+                if (fragment) {
+                    return false;
+                }
+                fragment = true;
+            }
+        }
+        return true;
+    }
+
+    protected static boolean isSchemeChar(char c, int i) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+            return true;
+        }
+        return i > 0 && ((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.');
+    }
+
+    protected static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * @param other a URI
+     * @return true if other is exactly this URI.
+     */
+    public boolean matches(String other) {
+        return value.equals(other);
+    }
+
+    /**
+     * A prefix only matches where a path segment, the query or the fragment starts. So,
+     * https://tokensmith.net does not match https://tokensmith.net.evil.com
+     *
+     * The path after the prefix may not have a . or .. segment, encoded or not, so
+     * https://tokensmith.net/cb/../evil does not match https://tokensmith.net/cb
+     *
+     * @param prefix the start of a URI
+     * @return true if this URI starts with prefix.
+     */
+    public boolean startsWith(String prefix) {
+        if (!value.startsWith(prefix)) {
+            return false;
+        }
+        // from the start of the segment the prefix ends in.
+        if (hasDotSegment(prefix.lastIndexOf('/') + 1)) {
+            return false;
+        }
+        if (value.length() == prefix.length() || prefix.endsWith("/")) {
+            return true;
+        }
+        char next = value.charAt(prefix.length());
+        return next == '/' || next == '?' || next == '#';
+    }
+
+    /**
+     * @param from the index of the start of a segment
+     * @return true if a path segment from there to the query or fragment is . or .., with each dot
+     * either a . or %2e, and with or without ;params after it.
+     */
+    protected boolean hasDotSegment(int from) {
+        int length = value.length();
+        int start = from;
+        for(int i = from; i <= length; i++) {
+            char c = i < length ? value.charAt(i) : '#';
+            if (c == '/' || c == '?' || c == '#') {
+                if (isDots(start, i)) {
+                    return true;
+                }
+                if (c != '/') {
+                    return false;
+                }
+                start = i + 1;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isDots(int start, int end) {
+        int dots = 0;
+        int i = start;
+        while (i < end) {
+            if (value.charAt(i) == ';') {
+                // path params, servers drop them before resolving the segment.
+                break;
+            }
+            if (value.charAt(i) == '.') {
+                i++;
+            } else if (value.charAt(i) == '%' && i + 2 < end && value.charAt(i + 1) == '2'
+                    && (value.charAt(i + 2) == 'e' || value.charAt(i + 2) == 'E')) {
+                i += 3;
+            } else {
+                return false;
+            }
+            dots++;
+        }
+        return dots == 1 || dots == 2;
+    }
+
+    /**
+     * @return the parsed URI
+     * @throws IllegalArgumentException if a component is not valid.
+     */
+    public URI toURI() {
+        URI parsed = uri;
+        if (parsed == null) {
+            parsed = URI.create(value);
+            uri = parsed;
+        }
+        return parsed;
+    }
+
+    public String getScheme() {
+        return toURI().getScheme();
+    }
+
+    public String getHost() {
+        return toURI().getHost();
+    }
+
+    public int getPort() {
+        return toURI().getPort();
+    }
+
+    public String getPath() {
+        return toURI().getPath();
+    }
+
+    public String getQuery() {
+        return toURI().getQuery();
+    }
+
+    public String getFragment() {
+        return toURI().getFragment();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof LazyURI && value.equals(((LazyURI) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
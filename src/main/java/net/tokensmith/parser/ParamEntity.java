@@ -1,6 +1,7 @@
 package net.tokensmith.parser;
 
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.function.Function;
@@ -8,18 +9,20 @@ import java.util.function.Function;
 
 public class ParamEntity {
     private Field field;
+    private MethodHandle setter; // (Object, Object)void, writes to field.
     private Parameter parameter;
-    private Boolean parameterized; // indicates if the field is either optional or list
+    private boolean parameterized; // indicates if the field is either optional or list
     private String rawType; // parameterized type, java.util.List
     private String argType; // type of individual item List<X> or just X.
     private Class<?> clazz;
-    private Boolean isList;
-    private Boolean isOptional;
+    private boolean isList;
+    private boolean isOptional;
     private Function<String, Object> builder;
     private List<ParamEntity> children;
+    private FieldPlan plan;
 
 
-    public ParamEntity(Field field, Parameter parameter, Boolean isParameterized, Class<?> clazz, Function<String, Object> builder, List<ParamEntity> children) {
+    public ParamEntity(Field field, Parameter parameter, boolean isParameterized, Class<?> clazz, Function<String, Object> builder, List<ParamEntity> children) {
         this.field = field;
         this.parameter = parameter;
         this.parameterized = isParameterized;
@@ -28,8 +31,9 @@ public class ParamEntity {
         this.clazz = clazz;
     }
 
-    public ParamEntity(Field field, Parameter parameter, Boolean parameterized, String rawType, String argType, Class<?> clazz, Boolean isList, Boolean isOptional, Function<String, Object> builder, List<ParamEntity> children) {
+    public ParamEntity(Field field, MethodHandle setter, Parameter parameter, boolean parameterized, String rawType, String argType, Class<?> clazz, boolean isList, boolean isOptional, Function<String, Object> builder, List<ParamEntity> children) {
         this.field = field;
+        this.setter = setter;
         this.parameter = parameter;
         this.parameterized = parameterized;
         this.rawType = rawType;
@@ -51,6 +55,14 @@ public class ParamEntity {
         this.field = field;
     }
 
+    public MethodHandle getSetter() {
+        return setter;
+    }
+
+    public void setSetter(MethodHandle setter) {
+        this.setter = setter;
+    }
+
     public Parameter getParameter() {
         return parameter;
     }
@@ -59,11 +71,11 @@ public class ParamEntity {
         this.parameter = parameter;
     }
 
-    public Boolean isParameterized() {
+    public boolean isParameterized() {
         return parameterized;
     }
 
-    public void setParameterized(Boolean parameterized) {
+    public void setParameterized(boolean parameterized) {
         this.parameterized = parameterized;
     }
 
@@ -91,19 +103,19 @@ public class ParamEntity {
         this.clazz = clazz;
     }
 
-    public Boolean isList() {
+    public boolean isList() {
         return isList;
     }
 
-    public void setList(Boolean list) {
+    public void setList(boolean list) {
         isList = list;
     }
 
-    public Boolean isOptional() {
+    public boolean isOptional() {
         return isOptional;
     }
 
-    public void setOptional(Boolean optional) {
+    public void setOptional(boolean optional) {
         isOptional = optional;
     }
 
@@ -123,15 +135,24 @@ public class ParamEntity {
         this.children = children;
     }
 
+    public FieldPlan getPlan() {
+        return plan;
+    }
+
+    public void setPlan(FieldPlan plan) {
+        this.plan = plan;
+    }
+
     public static class Builder {
         private Field field;
+        private MethodHandle setter;
         private Parameter parameter;
-        private Boolean parameterized = false; // indicates if the field is either optional or list
+        private boolean parameterized = false; // indicates if the field is either optional or list
         private String rawType; // parameterized type, java.util.List
         private String argType; // type of individual item List<X> or just X.
         private Class<?> clazz;
-        private Boolean isList = false;
-        private Boolean isOptional = false;
+        private boolean isList = false;
+        private boolean isOptional = false;
         private Function<String, Object> builder;
         private List<ParamEntity> children;
 
@@ -140,12 +161,17 @@ public class ParamEntity {
             return this;
         }
 
+        public Builder setter(MethodHandle setter) {
+            this.setter = setter;
+            return this;
+        }
+
         public Builder parameter(Parameter parameter) {
             this.parameter = parameter;
             return this;
         }
 
-        public Builder parameterized(Boolean parameterized) {
+        public Builder parameterized(boolean parameterized) {
             this.parameterized = parameterized;
             return this;
         }
@@ -165,12 +191,12 @@ public class ParamEntity {
             return this;
         }
 
-        public Builder list(Boolean list) {
+        public Builder list(boolean list) {
             isList = list;
             return this;
         }
 
-        public Builder optional(Boolean optional) {
+        public Builder optional(boolean optional) {
             isOptional = optional;
             return this;
         }
@@ -187,7 +213,7 @@ public class ParamEntity {
 
         public ParamEntity build() {
             return new ParamEntity(
-                field, parameter, parameterized, rawType, argType, clazz, isList, isOptional, builder, children
+                field, setter, parameter, parameterized, rawType, argType, clazz, isList, isOptional, builder, children
             );
         }
     }
@@ -0,0 +1,193 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.exception.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * What Parser.toPublisher returns. Each subscriber subscribes to the source and receives a
+ * ParseResult for each item, in the order of the source.
+ *
+ * No more than concurrency items are requested from the source that have not been sent to the
+ * subscriber, and never more than the subscriber has asked for. Those items are translated in
+ * parallel on the executor and held in a buffer of size concurrency until it is their turn.
+ */
+class ParsePublisher<T> implements Flow.Publisher<ParseResult<T>> {
+    private Parser parser;
+    private Schema schema;
+    private Class<T> clazz;
+    private Flow.Publisher<Map<String, List<String>>> source;
+    private int concurrency;
+    private Executor executor;
+
+    ParsePublisher(Parser parser, Schema schema, Class<T> clazz, Flow.Publisher<Map<String, List<String>>> source, int concurrency, Executor executor) {
+        this.parser = parser;
+        this.schema = schema;
+        this.clazz = clazz;
+        this.source = source;
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ParseResult<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        source.subscribe(new ParseSubscription(subscriber));
+    }
+
+    /**
+     * Subscribes to the source and is the subscription of the subscriber. Signals to the subscriber
+     * are only made in drain, which one thread runs at a time.
+     */
+    class ParseSubscription implements Flow.Subscriber<Map<String, List<String>>>, Flow.Subscription {
+        private Flow.Subscriber<? super ParseResult<T>> downstream;
+        private volatile Flow.Subscription upstream;
+        private AtomicReferenceArray<ParseResult<T>> slots = new AtomicReferenceArray<>(concurrency);
+        private AtomicLong demand = new AtomicLong();
+        private AtomicInteger wip = new AtomicInteger();
+        private volatile long received;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile Throwable sourceError;
+        private volatile Throwable failure;
+        // only used in drain.
+        private long emitted;
+        private long requested;
+        private boolean terminated;
+
+        ParseSubscription(Flow.Subscriber<? super ParseResult<T>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Map<String, List<String>> item) {
+            long seq = received;
+            try {
+                executor.execute(() -> bind(seq, item));
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            received = seq + 1;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            sourceError = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("request must be positive, it was " + n);
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (current != Long.MAX_VALUE && !demand.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        protected void bind(long seq, Map<String, List<String>> item) {
+            try {
+                slots.set((int) (seq % concurrency), parser.tryTo(schema, clazz, item, new ArrayList<>()));
+            } catch (ParseException | RuntimeException e) {
+                failure = e;
+            }
+            drain();
+        }
+
+        protected void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated && !cancelled) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        protected void emit() {
+            if (failure != null) {
+                terminated = true;
+                upstream.cancel();
+                downstream.onError(failure);
+                return;
+            }
+
+            long wanted = demand.get();
+            long sent = 0;
+            while (sent < wanted && !cancelled) {
+                int slot = (int) (emitted % concurrency);
+                ParseResult<T> result = slots.get(slot);
+                if (result == null) {
+                    break;
+                }
+                slots.set(slot, null);
+                emitted++;
+                sent++;
+                downstream.onNext(result);
+            }
+            if (sent > 0 && wanted != Long.MAX_VALUE) {
+                demand.addAndGet(-sent);
+            }
+
+            if (done && emitted == received) {
+                terminated = true;
+                if (sourceError != null) {
+                    downstream.onError(sourceError);
+                } else {
+                    downstream.onComplete();
+                }
+                return;
+            }
+
+            // the items requested and not sent are held in slots, keep them to what is wanted.
+            long target = Math.min(concurrency, demand.get());
+            long more = target - (requested - emitted);
+            if (more > 0 && !done && !cancelled) {
+                requested += more;
+                upstream.request(more);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.tokensmith.parser;
+
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * What Parser.tryTo returns, either the translated value or every field that was invalid.
+ *
+ * @param <T> the type translated to
+ */
+public class ParseResult<T> {
+    private T value;
+    private List<FieldError> errors;
+
+    public ParseResult(T value, List<FieldError> errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    public static <T> ParseResult<T> of(T value, List<FieldError> errors) {
+        if (errors == null || errors.isEmpty()) {
+            return new ParseResult<>(value, Collections.emptyList());
+        }
+        return new ParseResult<>(null, Collections.unmodifiableList(errors));
+    }
+
+    /**
+     * @return true if there were no errors.
+     */
+    public boolean isOk() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return the translated value, null if there were errors.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    public List<FieldError> getErrors() {
+        return errors;
+    }
+}
@@ -2,54 +2,99 @@ package net.tokensmith.parser;
 
 
 
+import net.tokensmith.parser.binder.Binder;
+import net.tokensmith.parser.binder.BinderFactory;
+import net.tokensmith.parser.binder.GraphInput;
+import net.tokensmith.parser.binder.Input;
+import net.tokensmith.parser.binder.KeyIndex;
+import net.tokensmith.parser.config.ParserOptions;
+import net.tokensmith.parser.exception.DecodeException;
 import net.tokensmith.parser.exception.OptionalException;
 import net.tokensmith.parser.exception.ParseException;
 import net.tokensmith.parser.exception.ReflectException;
 import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.exception.UncheckedParseException;
 import net.tokensmith.parser.factory.nested.NestedTypeSetter;
 import net.tokensmith.parser.factory.nested.NestedTypeSetterFactory;
 import net.tokensmith.parser.factory.simple.TypeParser;
 import net.tokensmith.parser.factory.simple.TypeParserFactory;
+import net.tokensmith.parser.form.FormMap;
+import net.tokensmith.parser.form.FormScanner;
+import net.tokensmith.parser.form.FormSource;
+import net.tokensmith.parser.form.FormStreamScanner;
+import net.tokensmith.parser.form.PercentDecoder;
 import net.tokensmith.parser.graph.GraphNode;
 import net.tokensmith.parser.graph.GraphTranslator;
 import net.tokensmith.parser.model.NodeData;
+import net.tokensmith.parser.validator.ExpectedValues;
+import net.tokensmith.parser.validator.FieldValidator;
 import net.tokensmith.parser.validator.OptionalParam;
 import net.tokensmith.parser.validator.RequiredParam;
 import net.tokensmith.parser.validator.exception.EmptyValueError;
-import net.tokensmith.parser.validator.exception.MoreThanOneItemError;
-import net.tokensmith.parser.validator.exception.NoItemsError;
 import net.tokensmith.parser.validator.exception.ParamIsNullError;
 
 
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 
 
 public class Parser {
     private static String TO_OBJ_ERROR = "Could not construct to object";
     private static String REQ_ERROR="Required field failed validation";
-    private static String OPT_ERROR="Optional field failed validation";
-    private static Map<Class<?>, List<ParamEntity>> reflectedFields = new HashMap<>();
+    private static String DECODE_ERROR = "Could not decode input";
+    private static String READ_ERROR = "Could not read input";
+    private static String CONSTRUCTED_ERROR = "Can not fill %s, it is constructed. Use to instead";
+    private static String IS_NULL = "Param value for, %s, is null";
+    private static String NOT_PRESENT = "Param value for, %s, is not present";
     private ReflectParameter reflectParameter;
+    private SchemaCache schemaCache;
     private GraphTranslator graphTranslator;
     private OptionalParam optionalParam;
     private RequiredParam requiredParam;
     private TypeParserFactory typeParserFactory;
     private NestedTypeSetterFactory nestedTypeSetterFactory;
+    private ParserOptions options;
+    private InstancePool instancePool;
+    private ParserUtils parserUtils;
+    private FieldValidator fieldValidator;
+    private FormScanner formScanner;
+    private FormStreamScanner formStreamScanner;
 
 
     public Parser(ReflectParameter reflectParameter, GraphTranslator graphTranslator, OptionalParam optionalParam, RequiredParam requiredParam, TypeParserFactory typeParserFactory, NestedTypeSetterFactory nestedTypeSetterFactory) {
+        this(reflectParameter, graphTranslator, optionalParam, requiredParam, typeParserFactory, nestedTypeSetterFactory, new ParserOptions.Builder().build());
+    }
+
+    public Parser(ReflectParameter reflectParameter, GraphTranslator graphTranslator, OptionalParam optionalParam, RequiredParam requiredParam, TypeParserFactory typeParserFactory, NestedTypeSetterFactory nestedTypeSetterFactory, ParserOptions options) {
         this.reflectParameter = reflectParameter;
+        this.parserUtils = new ParserUtils(options.isStackless());
+        this.fieldValidator = new FieldValidator(requiredParam, optionalParam, parserUtils);
+        BinderFactory binderFactory = new BinderFactory(reflectParameter, fieldValidator, parserUtils);
+        this.schemaCache = new SchemaCache(reflectParameter, binderFactory, options.isCompiled() && options.isGenerated());
         this.graphTranslator = graphTranslator;
         this.optionalParam = optionalParam;
         this.requiredParam = requiredParam;
         this.typeParserFactory = typeParserFactory;
         this.nestedTypeSetterFactory = nestedTypeSetterFactory;
+        this.options = options;
+        this.instancePool = options.getPoolSize() > 0 ? new InstancePool(options.getPoolSize()) : null;
+        PercentDecoder decoder = new PercentDecoder();
+        this.formScanner = new FormScanner(decoder);
+        this.formStreamScanner = new FormStreamScanner(decoder);
     }
 
     /**
@@ -64,17 +109,331 @@ public class Parser {
      * @throws ParseException if something went wrong in the framework. If a constructor could not be found, field could not be set, etc.
      */
     public <T> T to(Class<T> clazz, Map<String, List<String>> from) throws RequiredException, OptionalException, ParseException {
-        List<ParamEntity> fields = reflectedFields.get(clazz);
-        if (fields == null) {
+        Schema schema = schema(clazz);
+
+        if (options.isCompiled() || schema.isConstructed()) {
+            return bind(schema, clazz, input(schema, from));
+        }
+        return toFromGraph(clazz, schema.getFields(), graphTranslator.to(from));
+    }
+
+    /**
+     * Translates from to target, an instance the caller already has. Every @Parameter field of target
+     * is assigned, nested instances that target already has are filled instead of made again.
+     *
+     * @param target the instance to fill
+     * @param from the data to translate to T
+     * @param <T> the type to translate to
+     * @return target
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if something went wrong in the framework. If a field could not be set, or
+     * target is a record or has final @Parameter fields so it can not be filled.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T into(T target, Map<String, List<String>> from) throws RequiredException, OptionalException, ParseException {
+        Schema schema = schema(target.getClass());
+        if (schema.isConstructed()) {
+            throw new ParseException(String.format(CONSTRUCTED_ERROR, target.getClass().getName()), null);
+        }
+        Binder<T> binder = (Binder<T>) schema.getBinder();
+        return binder.into(target, input(schema, from), null);
+    }
+
+    /**
+     * Gives an instance made by this Parser back so to can fill it again. Only kept when ParserOptions
+     * has a pool size, and the caller must not use it after it is given back. It may be filled on
+     * another thread.
+     *
+     * @param instance the instance to give back
+     */
+    public void release(Object instance) {
+        if (instancePool != null && instance != null) {
+            instancePool.give(instance);
+        }
+    }
+
+    // the graph is only needed when a param can not be found by its dotted key.
+    protected Input input(Schema schema, Map<String, List<String>> from) {
+        if (schema.getKeyIndex() != null) {
+            return schema.getKeyIndex().read(from);
+        }
+        return new GraphInput(graphTranslator.to(from));
+    }
+
+    // fills an instance from the pool when there is one.
+    @SuppressWarnings("unchecked")
+    protected <T> T bind(Schema schema, Class<T> clazz, Input input) throws RequiredException, OptionalException, ParseException {
+        // a constructed instance can not be filled.
+        T pooled = instancePool != null && !schema.isConstructed() ? instancePool.take(clazz) : null;
+        if (pooled != null) {
+            return ((Binder<T>) schema.getBinder()).into(pooled, input, null);
+        }
+        return clazz.cast(schema.getBinder().bind(input, null));
+    }
+
+    /**
+     * Translates from to an instance of T on the executor from ParserOptions, by default a virtual
+     * thread for each translation when the runtime has them.
+     *
+     * @param clazz the Class that is returned
+     * @param from the data to translate to T
+     * @param <T> the type to translate to
+     * @return a future of the new instance of T. It completes exceptionally with the exceptions to throws.
+     */
+    public <T> CompletableFuture<T> toAsync(Class<T> clazz, Map<String, List<String>> from) {
+        return toAsync(clazz, from, options.getExecutor());
+    }
+
+    /**
+     * Translates from to an instance of T on executor.
+     *
+     * @param clazz the Class that is returned
+     * @param from the data to translate to T
+     * @param executor runs the translation
+     * @param <T> the type to translate to
+     * @return a future of the new instance of T. It completes exceptionally with the exceptions to throws.
+     */
+    public <T> CompletableFuture<T> toAsync(Class<T> clazz, Map<String, List<String>> from, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
             try {
-                fields = reflectParameter.reflect(clazz);
-            } catch (ReflectException e) {
-                throw new ParseException(String.format("problem reflecting class %s", clazz.toString()), e);
+                future.complete(to(clazz, from));
+            } catch (RequiredException | OptionalException | ParseException | RuntimeException e) {
+                future.completeExceptionally(e);
             }
-            reflectedFields.put(clazz, fields);
+        });
+        return future;
+    }
+
+    /**
+     * Translates from to an instance of T without throwing for invalid input. Every field is
+     * validated and each one that fails is in the result's errors, along with its param and ErrorCode.
+     *
+     * @param clazz the Class that is returned
+     * @param from the data to translate to T
+     * @param <T> the type to translate to
+     * @return the result, it has a value when there are no errors.
+     * @throws ParseException if something went wrong in the framework. If a constructor could not be found, field could not be set, etc.
+     */
+    public <T> ParseResult<T> tryTo(Class<T> clazz, Map<String, List<String>> from) throws ParseException {
+        return tryTo(schema(clazz), clazz, from, new ArrayList<>());
+    }
+
+    /**
+     * Translates each item of from with tryTo. The class is reflected once and the items are split
+     * across the common fork join pool.
+     *
+     * @param clazz the Class that is returned
+     * @param from the items to translate to T
+     * @param <T> the type to translate to
+     * @return a result for each item, in the same order as from, and a summary of the failures.
+     * @throws ParseException if something went wrong in the framework. If a constructor could not be found, field could not be set, etc.
+     */
+    public <T> BatchResult<T> toAll(Class<T> clazz, List<Map<String, List<String>>> from) throws ParseException {
+        return toAll(clazz, from, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as toAll(Class, List) using pool.
+     *
+     * @param clazz the Class that is returned
+     * @param from the items to translate to T
+     * @param pool splits the items across its workers
+     * @param <T> the type to translate to
+     * @return a result for each item, in the same order as from, and a summary of the failures.
+     * @throws ParseException if something went wrong in the framework. If a constructor could not be found, field could not be set, etc.
+     */
+    public <T> BatchResult<T> toAll(Class<T> clazz, List<Map<String, List<String>>> from, ForkJoinPool pool) throws ParseException {
+        Schema schema = schema(clazz);
+
+        @SuppressWarnings("unchecked")
+        ParseResult<T>[] results = new ParseResult[from.size()];
+        int threshold = Math.max(1, from.size() / (pool.getParallelism() * 4));
+        try {
+            pool.invoke(new BatchTask<>(this, schema, clazz, from, results, 0, from.size(), threshold));
+        } catch (UncheckedParseException e) {
+            throw e.getCause();
+        }
+        return new BatchResult<>(Arrays.asList(results));
+    }
+
+    /**
+     * Translates each item of from with tryTo as the stream is consumed. The class is reflected once,
+     * the order of from is kept and if from is parallel the items are translated in parallel.
+     *
+     * @param clazz the Class that is returned
+     * @param from the items to translate to T
+     * @param <T> the type to translate to
+     * @return a stream of the results.
+     * @throws ParseException if clazz could not be reflected. Other framework failures are thrown by the stream as UncheckedParseException.
+     */
+    public <T> Stream<ParseResult<T>> toAll(Class<T> clazz, Stream<Map<String, List<String>>> from) throws ParseException {
+        Schema schema = schema(clazz);
+
+        return from.map(item -> {
+            try {
+                return tryTo(schema, clazz, item, new ArrayList<>());
+            } catch (ParseException e) {
+                throw new UncheckedParseException(e);
+            }
+        });
+    }
+
+    /**
+     * Translates each item of from with tryTo as a Flow.Publisher. The class is reflected once. Items
+     * are only requested from from when the subscriber has asked for results, up to concurrency
+     * at a time, and they are translated in parallel on the executor from ParserOptions.
+     *
+     * @param clazz the Class that is returned
+     * @param from the items to translate to T
+     * @param concurrency the most items that are translated or held at once
+     * @param <T> the type to translate to
+     * @return a publisher of a result for each item, in the order of from.
+     * @throws ParseException if clazz could not be reflected. Other framework failures are sent to the subscriber's onError.
+     */
+    public <T> Flow.Publisher<ParseResult<T>> toPublisher(Class<T> clazz, Flow.Publisher<Map<String, List<String>>> from, int concurrency) throws ParseException {
+        return toPublisher(clazz, from, concurrency, options.getExecutor());
+    }
+
+    /**
+     * Same as toPublisher(Class, Publisher, int) using executor.
+     *
+     * @param clazz the Class that is returned
+     * @param from the items to translate to T
+     * @param concurrency the most items that are translated or held at once
+     * @param executor translates the items
+     * @param <T> the type to translate to
+     * @return a publisher of a result for each item, in the order of from.
+     * @throws ParseException if clazz could not be reflected. Other framework failures are sent to the subscriber's onError.
+     */
+    public <T> Flow.Publisher<ParseResult<T>> toPublisher(Class<T> clazz, Flow.Publisher<Map<String, List<String>>> from, int concurrency, Executor executor) throws ParseException {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1, it was " + concurrency);
+        }
+        return new ParsePublisher<>(this, schema(clazz), clazz, from, concurrency, executor);
+    }
+
+    /**
+     * @param errors scratch list, it is cleared first and copied to the result if it is not empty.
+     */
+    protected <T> ParseResult<T> tryTo(Schema schema, Class<T> clazz, Map<String, List<String>> from, List<FieldError> errors) throws ParseException {
+        Input input = input(schema, from);
+
+        errors.clear();
+        try {
+            T value = clazz.cast(schema.getBinder().bind(input, errors));
+            return ParseResult.of(value, errors.isEmpty() ? null : new ArrayList<>(errors));
+        } catch (RequiredException | OptionalException e) {
+            // steps add to errors instead of throwing these.
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Translates a query string, a=b&amp;c=d, to an instance of T. It is scanned once and only the
+     * values of keys that T has are decoded.
+     *
+     * @param clazz the Class that is returned
+     * @param query the query string, it may start with a ?
+     * @param <T> the type to translate to
+     * @return a new instance of T
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if query could not be decoded or something went wrong in the framework.
+     */
+    public <T> T fromQueryString(Class<T> clazz, CharSequence query) throws RequiredException, OptionalException, ParseException {
+        return fromForm(clazz, sink -> formScanner.scan(query, sink));
+    }
+
+    /**
+     * Translates an application/x-www-form-urlencoded body to an instance of T. The body is read
+     * through a fixed size buffer and bound as it is read, only the values of keys that T has are kept.
+     *
+     * @param clazz the Class that is returned
+     * @param body the body, it is read to the end and not closed.
+     * @param <T> the type to translate to
+     * @return a new instance of T
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if body could not be read or decoded, or something went wrong in the framework.
+     */
+    public <T> T fromForm(Class<T> clazz, InputStream body) throws RequiredException, OptionalException, ParseException {
+        return fromForm(clazz, sink -> formStreamScanner.scan(body, sink));
+    }
+
+    /**
+     * Translates an application/x-www-form-urlencoded body to an instance of T. The body is read
+     * through a fixed size buffer and bound as it is read, only the values of keys that T has are kept.
+     *
+     * @param clazz the Class that is returned
+     * @param body the body, it is read to the end and not closed.
+     * @param <T> the type to translate to
+     * @return a new instance of T
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if body could not be read or decoded, or something went wrong in the framework.
+     */
+    public <T> T fromForm(Class<T> clazz, ReadableByteChannel body) throws RequiredException, OptionalException, ParseException {
+        return fromForm(clazz, sink -> formStreamScanner.scan(body, sink));
+    }
+
+    /**
+     * Translates an application/x-www-form-urlencoded body to an instance of T. The bytes are scanned
+     * in place, keys are matched as bytes and Strings are only made for the values that T binds.
+     *
+     * @param clazz the Class that is returned
+     * @param body the body from its position to its limit, which are not changed.
+     * @param <T> the type to translate to
+     * @return a new instance of T
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if body could not be decoded, or something went wrong in the framework.
+     */
+    public <T> T fromForm(Class<T> clazz, ByteBuffer body) throws RequiredException, OptionalException, ParseException {
+        return fromForm(clazz, sink -> formScanner.scan(body, sink));
+    }
+
+    /**
+     * Same as fromForm(Class, ByteBuffer) for a byte[].
+     *
+     * @param clazz the Class that is returned
+     * @param body the body
+     * @param <T> the type to translate to
+     * @return a new instance of T
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null. If its there it should have a value.
+     * @throws ParseException if body could not be decoded, or something went wrong in the framework.
+     */
+    public <T> T fromForm(Class<T> clazz, byte[] body) throws RequiredException, OptionalException, ParseException {
+        return fromForm(clazz, ByteBuffer.wrap(body));
+    }
+
+    protected <T> T fromForm(Class<T> clazz, FormSource source) throws RequiredException, OptionalException, ParseException {
+        Schema schema = schema(clazz);
+
+        try {
+            if (options.isCompiled() && schema.getKeyIndex() != null) {
+                KeyIndex.Reader reader = schema.getKeyIndex().reader();
+                source.scan(reader);
+                return bind(schema, clazz, reader.input());
+            }
+            FormMap form = new FormMap(formScanner.getDecoder());
+            source.scan(form);
+            return to(clazz, form.getFrom());
+        } catch (DecodeException e) {
+            throw new ParseException(DECODE_ERROR, e);
+        } catch (IOException e) {
+            throw new ParseException(READ_ERROR, e);
+        }
+    }
+
+    protected Schema schema(Class<?> clazz) throws ParseException {
+        try {
+            return schemaCache.get(clazz);
+        } catch (ReflectException e) {
+            throw new ParseException(String.format("problem reflecting class %s", clazz.toString()), e);
         }
-        Map<String, GraphNode<NodeData>> fromGraph = graphTranslator.to(from);
-        return toFromGraph(clazz, fields, fromGraph);
     }
 
     /**
@@ -99,24 +458,23 @@ public class Parser {
         }
 
         for(ParamEntity field: fields) {
-            // instance variable
-            Field f = field.getField();
-
-            // parameter settings for the ivar
-            Parameter p = field.getParameter();
-
-            GraphNode<NodeData> node = from.get(p.name());
+            FieldPlan plan = field.getPlan();
+            if (plan == null) {
+                plan = reflectParameter.plan(field);
+                field.setPlan(plan);
+            }
 
+            GraphNode<NodeData> node = from.get(plan.getParamName());
 
-            if (field.getChildren().size() > 0) {
+            if (plan.isNested()) {
                 // complex, nested path..
-                validateNested(field.getParameter().name(), field, node, to);
+                validateNested(plan.getParamName(), field, node, to);
 
-                NestedTypeSetter setter = nestedTypeSetterFactory.make(field, node);
+                NestedTypeSetter setter = plan.getNestedSetter(node != null, node != null && node.hasChildren());
 
                 if (node != null) {
                     // this is a required parameter.
-                    var item = toFromGraph(field.getClazz(), field.getChildren(), node.getChildren());
+                    var item = toFromGraph(field.getClazz(), field.getChildren(), node.getChildMap());
                     setter.set(to, field, item);
                 } else {
                     // not required
@@ -129,41 +487,22 @@ public class Parser {
                     fromValues = node.getData().getValues();
                 }
 
-                try {
-                    validate(f.getName(), p.name(), fromValues, p.required(), p.allowMany());
-                } catch (OptionalException e) {
-                    e.setTarget(to);
-                    throw e;
-                } catch (RequiredException e) {
-                    e.setTarget(to);
-                    throw e;
-                }
-
-                Boolean inputEmpty = isEmpty(fromValues);
+                fieldValidator.validate(plan.getRules(), fromValues, to, null);
 
-                TypeParser parser = typeParserFactory.make(field, inputEmpty, p.required());
+                TypeParser parser = plan.getParser(isEmpty(fromValues));
                 parser.parse(to, field, fromValues);
             }
         }
         return to;
     }
 
+    public SchemaCache getSchemaCache() {
+        return schemaCache;
+    }
+
     protected boolean validate(String field, String param, List<String> input, boolean required, boolean allowMany) throws RequiredException, OptionalException {
-        boolean validated;
-        if (required) {
-            try {
-                validated = requiredParam.run(input, allowMany);
-            } catch (EmptyValueError | MoreThanOneItemError | NoItemsError | ParamIsNullError e) {
-                throw new RequiredException(REQ_ERROR, e, field, param);
-            }
-        } else {
-            try {
-                validated = optionalParam.run(input, allowMany);
-            } catch (EmptyValueError | MoreThanOneItemError e) {
-                throw new OptionalException(OPT_ERROR, e, field, param);
-            }
-        }
-        return validated;
+        FieldRules rules = new FieldRules(field, param, required, allowMany, ExpectedValues.NONE, null);
+        return fieldValidator.validate(rules, input, null, null);
     }
 
     protected Boolean isEmpty(List<String> values) {
@@ -174,16 +513,12 @@ public class Parser {
     protected <T> void validateNested(String field, ParamEntity paramEntity, GraphNode<NodeData> node, T target) throws RequiredException, OptionalException {
         if (node == null && paramEntity.getParameter().required()) {
             // its missing
-            ParamIsNullError cause = new ParamIsNullError(
-                    String.format("Param value for, %s, is null", field)
-            );
-            throw new RequiredException(REQ_ERROR, cause, field, null, target);
-        } else if (node != null && node.getChildren().size() == 0 && !paramEntity.getParameter().required() ) {
+            ParamIsNullError cause = new ParamIsNullError(IS_NULL, field, !parserUtils.isStackless());
+            throw parserUtils.requiredException(REQ_ERROR, cause, field, null, target);
+        } else if (node != null && !node.hasChildren() && !paramEntity.getParameter().required() ) {
             // key is present but has values..
-            EmptyValueError cause = new EmptyValueError(
-                    String.format("Param value for, %s, is not present", field)
-            );
-            throw new OptionalException("", cause, field, null, target);
+            EmptyValueError cause = new EmptyValueError(NOT_PRESENT, field, !parserUtils.isStackless());
+            throw parserUtils.optionalException("", cause, field, null, target);
         }
     }
 }
@@ -2,6 +2,7 @@ package net.tokensmith.parser;
 
 import net.tokensmith.parser.exception.OptionalException;
 import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.exception.ValueException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -11,6 +12,19 @@ import java.util.List;
 public class ParserUtils {
     private static String REQ_ERROR="Required field failed validation";
     private static String OPT_ERROR="Optional field failed validation";
+    private static String UNSUPPORTED_ERROR = "input value is not supported";
+    private boolean stackless;
+
+    public ParserUtils() {
+        this(false);
+    }
+
+    /**
+     * @param stackless if true, the exceptions made do not have stack traces.
+     */
+    public ParserUtils(boolean stackless) {
+        this.stackless = stackless;
+    }
 
     /**
      * Translate a string that is space delimited into a List of Strings
@@ -45,8 +59,32 @@ public class ParserUtils {
     public <T> void handleConstructorException(Throwable t, ParamEntity toField, T o) throws RequiredException, OptionalException {
 
         if (toField.getParameter().required()) {
-            throw new RequiredException(REQ_ERROR, t, toField.getField().getName(), toField.getParameter().name(), o);
+            throw requiredException(REQ_ERROR, t, toField.getField().getName(), toField.getParameter().name(), o);
         }
-        throw new OptionalException(OPT_ERROR, t, toField.getField().getName(), toField.getParameter().name(), o);
+        throw optionalException(OPT_ERROR, t, toField.getField().getName(), toField.getParameter().name(), o);
+    }
+
+    public RequiredException requiredException(String message, Throwable cause, String field, String param, Object target) {
+        return new RequiredException(message, cause, field, param, target, !stackless);
+    }
+
+    public OptionalException optionalException(String message, Throwable cause, String field, String param, Object target) {
+        return new OptionalException(message, cause, field, param, target, !stackless);
+    }
+
+    /**
+     * @param field the field
+     * @param param the param
+     * @param value the input that is not one of the expected values
+     * @param target the object being translated to
+     * @return a RequiredException caused by a ValueException, for input that is not expected.
+     */
+    public RequiredException unsupported(String field, String param, String value, Object target) {
+        ValueException ve = new ValueException(UNSUPPORTED_ERROR, field, param, value, !stackless);
+        return requiredException(UNSUPPORTED_ERROR, ve, field, param, target);
+    }
+
+    public boolean isStackless() {
+        return stackless;
     }
 }
@@ -1,23 +1,47 @@
 package net.tokensmith.parser;
 
-import net.tokensmith.parser.builder.ReflectionBuilder;
+import net.tokensmith.parser.builder.BuilderCompiler;
+import net.tokensmith.parser.builder.Primitives;
 import net.tokensmith.parser.exception.ReflectException;
+import net.tokensmith.parser.factory.nested.NestedTypeSetterFactory;
+import net.tokensmith.parser.factory.simple.TypeParserFactory;
+import net.tokensmith.parser.validator.ExpectedValues;
 import net.tokensmith.parser.validator.RawType;
 
-import javax.management.ReflectionException;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class ReflectParameter {
+    private static MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static String RECORD = "java.lang.Record";
     private Map<String, Function<String, Object>> builders;
+    private BuilderCompiler builderCompiler;
+    private TypeParserFactory typeParserFactory;
+    private NestedTypeSetterFactory nestedTypeSetterFactory;
 
     public ReflectParameter(Map<String, Function<String, Object>> builders) {
-        this.builders = builders;
+        this(builders, new BuilderCompiler());
+    }
+
+    public ReflectParameter(Map<String, Function<String, Object>> builders, BuilderCompiler builderCompiler) {
+        this(builders, builderCompiler, new TypeParserFactory(), new NestedTypeSetterFactory());
+    }
+
+    public ReflectParameter(Map<String, Function<String, Object>> builders, BuilderCompiler builderCompiler, TypeParserFactory typeParserFactory, NestedTypeSetterFactory nestedTypeSetterFactory) {
+        // builders is added to while classes are reflected, which may happen on many threads at once.
+        this.builders = new ConcurrentHashMap<>(builders);
+        this.builderCompiler = builderCompiler;
+        this.typeParserFactory = typeParserFactory;
+        this.nestedTypeSetterFactory = nestedTypeSetterFactory;
     }
 
     public List<ParamEntity> reflect(Class clazz) throws ReflectException {
@@ -27,10 +51,13 @@ public class ReflectParameter {
             fields = reflect(clazz.getSuperclass());
         }
 
+        // constructed classes are made with their values, their fields are not set.
+        boolean constructed = isConstructed(clazz);
         for(Field field: clazz.getDeclaredFields()) {
             Parameter p = field.getAnnotation(Parameter.class);
             if (p != null) {
                 field.setAccessible(true);
+                MethodHandle setter = constructed ? null : setterForField(field);
 
                 List<ParamEntity> children = new ArrayList<>();
 
@@ -40,8 +67,8 @@ public class ReflectParameter {
                     ParameterizedType pt = (ParameterizedType) field.getGenericType();
                     String rawType = pt.getRawType().getTypeName();
                     String argType = pt.getActualTypeArguments()[0].getTypeName();
-                    Boolean isList = RawType.LIST.getTypeName().equals(rawType);
-                    Boolean isOptional = RawType.OPTIONAL.getTypeName().equals(rawType);
+                    boolean isList = RawType.LIST.getTypeName().equals(rawType);
+                    boolean isOptional = RawType.OPTIONAL.getTypeName().equals(rawType);
                     Function<String, Object> builder = s -> null;
                     if (!p.nested()) {
                         // only need builders for non nested items, b/c parser will use their default.
@@ -51,6 +78,7 @@ public class ReflectParameter {
 
                     node = new ParamEntity.Builder()
                             .field(field)
+                            .setter(setter)
                             .parameter(p)
                             .parameterized(true)
                             .rawType(rawType)
@@ -71,6 +99,7 @@ public class ReflectParameter {
 
                     node = new ParamEntity.Builder()
                             .field(field)
+                            .setter(setter)
                             .parameter(p)
                             .clazz(nodeClazz)
                             .builder(builder)
@@ -83,6 +112,7 @@ public class ReflectParameter {
                 }
 
                 node.setChildren(children);
+                node.setPlan(plan(node));
 
                 fields.add(node);
             }
@@ -90,8 +120,81 @@ public class ReflectParameter {
         return fields;
     }
 
+    /**
+     * Decides the parsers and setters for node up front so translating does not have to.
+     *
+     * @param node a reflected field with its children set
+     * @return the plan for node
+     */
+    protected FieldPlan plan(ParamEntity node) {
+        Parameter p = node.getParameter();
+        return new FieldPlan(
+            rules(node),
+            node.getChildren().size() > 0,
+            typeParserFactory.make(node, false, p.required()),
+            typeParserFactory.make(node, true, p.required()),
+            nestedTypeSetterFactory.make(node, true, true),
+            nestedTypeSetterFactory.make(node, true, false),
+            nestedTypeSetterFactory.make(node, false, false)
+        );
+    }
+
+    /**
+     * @param node a reflected field
+     * @return the rules of node, its expected values are compiled with its builder.
+     */
+    public FieldRules rules(ParamEntity node) {
+        Parameter p = node.getParameter();
+        return new FieldRules(
+            node.getField().getName(),
+            p.name(),
+            p.required(),
+            p.allowMany(),
+            ExpectedValues.of(p.expected(), node.getBuilder()),
+            node.getBuilder()
+        );
+    }
+
+    /**
+     * A class is constructed when it is a record or it has a final @Parameter field. It is made by
+     * calling its canonical constructor, the one whose parameters are the types of its @Parameter
+     * fields in the order they are declared.
+     *
+     * @param clazz the class to check
+     * @return true if clazz is constructed with its values instead of having its fields set.
+     */
+    public boolean isConstructed(Class<?> clazz) {
+        if (clazz.getSuperclass() != null && RECORD.equals(clazz.getSuperclass().getName())) {
+            return true;
+        }
+        for(Field field: clazz.getDeclaredFields()) {
+            if (field.getAnnotation(Parameter.class) != null && Modifier.isFinal(field.getModifiers())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected MethodHandle setterForField(Field field) throws ReflectException {
+        Class<?> declaringClazz = field.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClazz, MethodHandles.lookup());
+            MethodHandle setter = lookup.unreflectSetter(field);
+            if (field.getType().isPrimitive()) {
+                // absent values are null, they are written as the default of the type.
+                return Primitives.nullSafe(setter, field.getType());
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ReflectException(String.format("Unable to make setter for field %s", field.getName()), e, declaringClazz.getName());
+        }
+    }
+
     protected Class<?> makeClazz(String className) {
-        Class<?> clazz = null;
+        Class<?> clazz = Primitives.forName(className);
+        if (clazz != null) {
+            return clazz;
+        }
         try {
             clazz = Class.forName(className);
         } catch (ClassNotFoundException e) {
@@ -104,31 +207,22 @@ public class ReflectParameter {
         return (field.getGenericType() instanceof ParameterizedType);
     }
 
-    protected Function<String, Object> builderForField(String className) throws ReflectException {
+    public Function<String, Object> builderForField(String className) throws ReflectException {
         Function<String, Object> builder = builders.get(className);
         if (builder == null) {
-            Constructor<?> ctor = ctorForField(className);
-            builder = new ReflectionBuilder(ctor);
+            builder = Primitives.builder(className);
+        }
+        if (builder == null) {
+            Class<?> target;
+            try {
+                target = Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                throw new ReflectException(String.format("Unable to find class for %s", className), e, className);
+            }
+            builder = builderCompiler.compile(target);
             builders.put(className, builder);
         }
         return builder;
     }
 
-    protected Constructor<?> ctorForField(String className) throws ReflectException {
-        Class<?> target;
-        try {
-            target = Class.forName(className);
-        } catch (ClassNotFoundException e) {
-            throw new ReflectException(String.format("Unable to find class for %s", className), e, className);
-        }
-
-        Constructor<?> ctor = null;
-        try {
-            ctor = target.getConstructor(String.class);
-        } catch (NoSuchMethodException e) {
-            throw new ReflectException(String.format("Unable to find constructor with String parameter for %s", className), e, className);
-        }
-        return ctor;
-    }
-
 }
@@ -0,0 +1,76 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.binder.Binder;
+import net.tokensmith.parser.binder.ConstructorBinder;
+import net.tokensmith.parser.binder.FieldStep;
+import net.tokensmith.parser.binder.KeyIndex;
+import net.tokensmith.parser.binder.NestedStep;
+
+import java.util.List;
+
+
+/**
+ * What a Parser knows about a class: the reflected fields, the binder made from them and the
+ * index of the keys the binder reads.
+ */
+public class Schema {
+    private Class<?> clazz;
+    private List<ParamEntity> fields;
+    private Binder<?> binder;
+    private KeyIndex keyIndex;
+    private boolean constructed;
+
+    public Schema(Class<?> clazz, List<ParamEntity> fields, Binder<?> binder) {
+        this(clazz, fields, binder, KeyIndex.of(binder));
+    }
+
+    public Schema(Class<?> clazz, List<ParamEntity> fields, Binder<?> binder, KeyIndex keyIndex) {
+        this.clazz = clazz;
+        this.fields = fields;
+        this.binder = binder;
+        this.keyIndex = keyIndex;
+        this.constructed = constructed(binder);
+    }
+
+    protected static boolean constructed(Binder<?> binder) {
+        if (binder instanceof ConstructorBinder) {
+            return true;
+        }
+        for(FieldStep step: binder.getSteps()) {
+            if (step instanceof NestedStep && constructed(((NestedStep) step).getBinder())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Class<?> getClazz() {
+        return clazz;
+    }
+
+    /**
+     * @return the reflected fields, null if the binder was generated at compile time.
+     */
+    public List<ParamEntity> getFields() {
+        return fields;
+    }
+
+    public Binder<?> getBinder() {
+        return binder;
+    }
+
+    /**
+     * @return true if the class, or a nested class, is a record or has final @Parameter fields. They
+     * can only be made by the binder.
+     */
+    public boolean isConstructed() {
+        return constructed;
+    }
+
+    /**
+     * @return the index of the keys the binder reads, null if the input must be translated to a graph.
+     */
+    public KeyIndex getKeyIndex() {
+        return keyIndex;
+    }
+}
@@ -0,0 +1,134 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.binder.Binder;
+import net.tokensmith.parser.binder.BinderFactory;
+import net.tokensmith.parser.exception.ReflectException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Holds the Schema, reflected fields and binder, for each class a Parser translates to.
+ *
+ * Reads are lock free once a class has been reflected. When many threads ask for a class
+ * that has not been reflected yet only one of them reflects it, the others wait for its result.
+ * The class is reflected outside of the map's locks, the others wait on a CompletableFuture so a
+ * virtual thread waiting for it does not pin its carrier thread.
+ */
+public class SchemaCache {
+    private static String REFLECT_ERROR = "Unable to reflect class %s";
+
+    private ReflectParameter reflectParameter;
+    private BinderFactory binderFactory;
+    private boolean generated;
+    private ConcurrentHashMap<Class<?>, CompletableFuture<Schema>> schemas = new ConcurrentHashMap<>();
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+
+    public SchemaCache(ReflectParameter reflectParameter, BinderFactory binderFactory) {
+        this(reflectParameter, binderFactory, false);
+    }
+
+    /**
+     * @param reflectParameter reflects the classes
+     * @param binderFactory makes the binders
+     * @param generated if true, use the binders generated at compile time when they are found. The
+     *                  class is not reflected and the Schema will not have fields.
+     */
+    public SchemaCache(ReflectParameter reflectParameter, BinderFactory binderFactory, boolean generated) {
+        this.reflectParameter = reflectParameter;
+        this.binderFactory = binderFactory;
+        this.generated = generated;
+    }
+
+    /**
+     * Returns the Schema for clazz, reflecting it if this is the first time it was requested.
+     *
+     * @param clazz the class to get the Schema for
+     * @return the Schema of clazz
+     * @throws ReflectException if clazz could not be reflected, or reflecting it threw a RuntimeException.
+     */
+    public Schema get(Class<?> clazz) throws ReflectException {
+        CompletableFuture<Schema> schema = schemas.get(clazz);
+        if (schema != null && schema.isDone() && !schema.isCompletedExceptionally()) {
+            hits.increment();
+            return schema.join();
+        }
+
+        boolean reflected = false;
+        if (schema == null) {
+            CompletableFuture<Schema> mine = new CompletableFuture<>();
+            schema = schemas.putIfAbsent(clazz, mine);
+            if (schema == null) {
+                schema = mine;
+                reflected = true;
+                complete(clazz, mine);
+            }
+        }
+
+        Schema result;
+        try {
+            result = schema.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ReflectException) {
+                throw (ReflectException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ReflectException(String.format(REFLECT_ERROR, clazz.getName()), e.getCause(), clazz.getName());
+        }
+        if (!reflected) {
+            // waited for another thread to reflect it.
+            hits.increment();
+        }
+        return result;
+    }
+
+    protected void complete(Class<?> clazz, CompletableFuture<Schema> schema) {
+        try {
+            schema.complete(reflect(clazz));
+        } catch (Throwable e) {
+            // not kept so it is reflected again the next time it is requested. Errors too, such as
+            // ExceptionInInitializerError, or the threads waiting for it would never return.
+            schemas.remove(clazz, schema);
+            schema.completeExceptionally(e);
+        }
+    }
+
+    protected Schema reflect(Class<?> clazz) throws ReflectException {
+        misses.increment();
+        if (generated) {
+            Binder<?> binder = binderFactory.generated(clazz);
+            if (binder != null) {
+                return new Schema(clazz, null, binder);
+            }
+        }
+        List<ParamEntity> fields = Collections.unmodifiableList(reflectParameter.reflect(clazz));
+        return new Schema(clazz, fields, binderFactory.make(clazz, fields));
+    }
+
+    /**
+     * @return the number of times a Schema was returned without reflecting it. Threads that waited
+     * for another thread to reflect the class are counted here.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of times a class was reflected.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return schemas.size();
+    }
+}
@@ -0,0 +1,45 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+
+import java.util.List;
+
+
+/**
+ * Translates input to a new instance of T. A Binder is made once per class and then reused.
+ *
+ * @param <T> the type to translate to
+ */
+public interface Binder<T> {
+    /**
+     * @param from the input
+     * @param errors where failures of the input are added, if null the first one is thrown.
+     * @return a new instance of T, when failures were added to errors the fields that failed are absent.
+     * @throws RequiredException if errors is null and a required field is invalid
+     * @throws OptionalException if errors is null and an optional field is invalid
+     * @throws ParseException if something went wrong in the framework.
+     */
+    T bind(Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException;
+
+    /**
+     * Same as bind, for an instance that already exists. Every @Parameter field of to is assigned,
+     * nested instances that to already has are filled instead of made again.
+     *
+     * @param to the instance to fill
+     * @param from the input
+     * @param errors where failures of the input are added, if null the first one is thrown.
+     * @return to
+     * @throws RequiredException if errors is null and a required field is invalid
+     * @throws OptionalException if errors is null and an optional field is invalid
+     * @throws ParseException if something went wrong in the framework.
+     */
+    T into(T to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException;
+
+    /**
+     * @return the steps of the binder, one per field.
+     */
+    FieldStep[] getSteps();
+}
@@ -0,0 +1,242 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldPlan;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.ParamEntity;
+import net.tokensmith.parser.Parameter;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.ReflectParameter;
+import net.tokensmith.parser.exception.ReflectException;
+import net.tokensmith.parser.validator.ExpectedValues;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * Makes the Binder for a class. It is either the binder generated at compile time by the
+ * parser annotation processor or a CompiledBinder made from the reflected fields.
+ *
+ * The step methods are used by both, generated binders call them from their constructor with the
+ * rules as declared. Reflected fields pass the FieldRules of their plan.
+ */
+public class BinderFactory {
+    public static String GENERATED_SUFFIX = "_ParamBinder";
+    private static MethodType CTOR_TYPE = MethodType.methodType(Object.class);
+    private static MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static MethodType GENERATED_CTOR_TYPE = MethodType.methodType(void.class, BinderFactory.class);
+    private ReflectParameter reflectParameter;
+    private FieldValidator fieldValidator;
+    private ParserUtils parserUtils;
+
+    public BinderFactory(ReflectParameter reflectParameter, FieldValidator fieldValidator, ParserUtils parserUtils) {
+        this.reflectParameter = reflectParameter;
+        this.fieldValidator = fieldValidator;
+        this.parserUtils = parserUtils;
+    }
+
+    /**
+     * @param clazz the class to get a binder for
+     * @param <T> the type the binder translates to
+     * @return the generated binder for clazz, or if there is none a CompiledBinder.
+     * @throws ReflectException if clazz could not be reflected.
+     */
+    public <T> Binder<T> binder(Class<T> clazz) throws ReflectException {
+        Binder<T> binder = generated(clazz);
+        if (binder == null) {
+            binder = make(clazz, reflectParameter.reflect(clazz));
+        }
+        return binder;
+    }
+
+    /**
+     * @param clazz the class to find a generated binder for
+     * @param <T> the type the binder translates to
+     * @return the binder generated at compile time for clazz, null if there is not one.
+     * @throws ReflectException if the generated binder could not be made.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Binder<T> generated(Class<T> clazz) throws ReflectException {
+        String binderName = generatedName(clazz);
+        Class<?> binderClazz;
+        try {
+            binderClazz = Class.forName(binderName, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        try {
+            MethodHandle ctor = MethodHandles.publicLookup().findConstructor(binderClazz, GENERATED_CTOR_TYPE);
+            return (Binder<T>) ctor.invoke(this);
+        } catch (ReflectException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectException(String.format("Unable to make generated binder %s", binderName), e, clazz.getName());
+        }
+    }
+
+    protected String generatedName(Class<?> clazz) {
+        String name = clazz.getName();
+        int packageEnd = name.lastIndexOf('.');
+        return name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + GENERATED_SUFFIX;
+    }
+
+    public <T> Binder<T> make(Class<T> clazz, List<ParamEntity> fields) {
+        if (reflectParameter.isConstructed(clazz)) {
+            return constructed(clazz, fields);
+        }
+
+        MethodHandle ctor = null;
+        Throwable ctorError = null;
+        try {
+            ctor = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup())
+                    .findConstructor(clazz, MethodType.methodType(void.class))
+                    .asType(CTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // reported when the binder is used, like the reflective path does.
+            ctorError = e;
+        }
+
+        FieldStep[] steps = new FieldStep[fields.size()];
+        MethodHandle[] setters = new MethodHandle[fields.size()];
+        MethodHandle[] getters = new MethodHandle[fields.size()];
+        for(int i = 0; i < fields.size(); i++) {
+            steps[i] = makeStep(fields.get(i));
+            setters[i] = fields.get(i).getSetter();
+            if (fields.get(i).getChildren().size() > 0) {
+                getters[i] = getter(fields.get(i).getField());
+            }
+        }
+        return new CompiledBinder<>(clazz, ctor, ctorError, steps, setters, getters);
+    }
+
+    /**
+     * Makes the binder for a record or a class with final @Parameter fields. Its canonical constructor
+     * is found once and adapted to take the values as an Object[].
+     *
+     * @param clazz the class to make a binder for
+     * @param fields the reflected fields of clazz
+     * @param <T> the type the binder translates to
+     * @return the binder
+     */
+    public <T> ConstructorBinder<T> constructed(Class<T> clazz, List<ParamEntity> fields) {
+        Class<?>[] types = new Class<?>[fields.size()];
+        FieldStep[] steps = new FieldStep[fields.size()];
+        for(int i = 0; i < fields.size(); i++) {
+            types[i] = fields.get(i).getField().getType();
+            steps[i] = makeStep(fields.get(i));
+        }
+
+        MethodHandle ctor = null;
+        Throwable ctorError = null;
+        try {
+            ctor = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup())
+                    .findConstructor(clazz, MethodType.methodType(void.class, types))
+                    .asType(MethodType.genericMethodType(types.length))
+                    .asSpreader(Object[].class, types.length);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // reported when the binder is used, like the reflective path does.
+            ctorError = e;
+        }
+        return new ConstructorBinder<>(clazz, ctor, ctorError, steps);
+    }
+
+    // reads a nested field so Binder.into can fill it, null if it can not be read.
+    protected MethodHandle getter(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    protected FieldStep makeStep(ParamEntity field) {
+        Parameter p = field.getParameter();
+        boolean parameterized = field.isParameterized();
+
+        if (field.getChildren().size() > 0) {
+            Binder<?> binder = make(field.getClazz(), field.getChildren());
+            return nested(field.getField().getName(), p.name(), p.required(), parameterized && field.isOptional(), binder);
+        }
+
+        // the plan compiled the expected values when the field was reflected.
+        FieldPlan plan = field.getPlan();
+        FieldRules rules = plan != null ? plan.getRules() : reflectParameter.rules(field);
+
+        if (!parameterized && field.getField().getType().isPrimitive()) {
+            return primitive(rules, field.getField());
+        } else if (parameterized && field.isList()) {
+            return list(rules, p.parsable(), p.delimiter());
+        } else if (parameterized && field.isOptional()) {
+            return optional(rules);
+        }
+        return reference(rules);
+    }
+
+    public Function<String, Object> builder(String className) throws ReflectException {
+        return reflectParameter.builderForField(className);
+    }
+
+    public FieldStep reference(String field, String param, boolean required, boolean allowMany, String[] expected, Function<String, Object> builder) {
+        return reference(rules(field, param, required, allowMany, expected, builder));
+    }
+
+    public FieldStep reference(FieldRules rules) {
+        return new ReferenceStep(rules, fieldValidator);
+    }
+
+    public FieldStep optional(String field, String param, boolean required, boolean allowMany, String[] expected, Function<String, Object> builder) {
+        return optional(rules(field, param, required, allowMany, expected, builder));
+    }
+
+    public FieldStep optional(FieldRules rules) {
+        return new OptionalStep(rules, fieldValidator);
+    }
+
+    public FieldStep list(String field, String param, boolean required, boolean allowMany, String[] expected, boolean parsable, String delimiter, Function<String, Object> builder) {
+        return list(rules(field, param, required, allowMany, expected, builder), parsable, delimiter);
+    }
+
+    public FieldStep list(FieldRules rules, boolean parsable, String delimiter) {
+        return new ListStep(rules, fieldValidator, parserUtils, parsable, delimiter);
+    }
+
+    public FieldStep primitive(String field, String param, boolean required, boolean allowMany, String[] expected, Function<String, Object> builder, Field primitive) {
+        return primitive(rules(field, param, required, allowMany, expected, builder), primitive);
+    }
+
+    public FieldStep primitive(FieldRules rules, Field primitive) {
+        Class<?> type = primitive.getType();
+        MethodHandle writer = null;
+        try {
+            writer = MethodHandles.privateLookupIn(primitive.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectSetter(primitive)
+                    .asType(MethodType.methodType(void.class, Object.class, type));
+        } catch (IllegalAccessException e) {
+            // a record component, it is a constructor parameter and is not written.
+        }
+        return new PrimitiveStep(rules, fieldValidator, type, writer);
+    }
+
+    protected FieldRules rules(String field, String param, boolean required, boolean allowMany, String[] expected, Function<String, Object> builder) {
+        return new FieldRules(field, param, required, allowMany, ExpectedValues.of(expected, builder), builder);
+    }
+
+    /**
+     * For binders generated before the field name was passed, the param is used as the field name.
+     */
+    public FieldStep nested(String param, boolean required, boolean optional, Binder<?> binder) {
+        return nested(param, param, required, optional, binder);
+    }
+
+    public FieldStep nested(String field, String param, boolean required, boolean optional, Binder<?> binder) {
+        return new NestedStep(field, param, required, optional, binder, parserUtils);
+    }
+}
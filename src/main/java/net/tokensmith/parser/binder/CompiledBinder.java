@@ -0,0 +1,100 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+
+
+public class CompiledBinder<T> implements Binder<T> {
+    private static String TO_OBJ_ERROR = "Could not construct to object";
+    private static String FIELD_ERROR = "Could not set field value";
+    private Class<T> clazz;
+    private MethodHandle ctor; // ()Object, null if it could not be found.
+    private Throwable ctorError;
+    private FieldStep[] steps;
+    private MethodHandle[] setters; // (Object, Object)void, setters[i] assigns the value of steps[i].
+    private MethodHandle[] getters; // (Object)Object, getters[i] reads the field of a nested steps[i], otherwise null.
+    private FieldWriter[] writers; // writers[i] is steps[i] if it assigns its own field, otherwise null.
+
+    public CompiledBinder(Class<T> clazz, MethodHandle ctor, Throwable ctorError, FieldStep[] steps, MethodHandle[] setters) {
+        this(clazz, ctor, ctorError, steps, setters, new MethodHandle[steps.length]);
+    }
+
+    public CompiledBinder(Class<T> clazz, MethodHandle ctor, Throwable ctorError, FieldStep[] steps, MethodHandle[] setters, MethodHandle[] getters) {
+        this.clazz = clazz;
+        this.ctor = ctor;
+        this.ctorError = ctorError;
+        this.steps = steps;
+        this.setters = setters;
+        this.getters = getters;
+        this.writers = new FieldWriter[steps.length];
+        for(int i = 0; i < steps.length; i++) {
+            if (steps[i] instanceof FieldWriter) {
+                writers[i] = (FieldWriter) steps[i];
+            }
+        }
+    }
+
+    @Override
+    public T bind(Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return into(clazz.cast(newInstance()), from, errors);
+    }
+
+    @Override
+    public T into(T to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        for(int i = 0; i < steps.length; i++) {
+            if (writers[i] != null) {
+                writers[i].write(to, from, errors);
+                continue;
+            }
+            Object value = steps[i].into(current(i, to), to, from, errors);
+            try {
+                setters[i].invokeExact(to, value);
+            } catch (Error | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ParseException(FIELD_ERROR, e);
+            }
+        }
+        return to;
+    }
+
+    protected Object current(int i, Object to) throws ParseException {
+        if (getters[i] == null) {
+            return null;
+        }
+        try {
+            return (Object) getters[i].invokeExact(to);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ParseException(FIELD_ERROR, e);
+        }
+    }
+
+    @Override
+    public FieldStep[] getSteps() {
+        return steps;
+    }
+
+    protected Object newInstance() throws ParseException {
+        if (ctor == null) {
+            throw new ParseException(TO_OBJ_ERROR, ctorError);
+        }
+        try {
+            return (Object) ctor.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ParseException(TO_OBJ_ERROR, e);
+        }
+    }
+
+    public Class<T> getClazz() {
+        return clazz;
+    }
+}
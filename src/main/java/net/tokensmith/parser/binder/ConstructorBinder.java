@@ -0,0 +1,72 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+
+
+/**
+ * Binds a record or a class with final @Parameter fields. The value of each step is put in an
+ * array and the canonical constructor is called once with it. Exceptions do not have a target
+ * because there is no instance until every value is known.
+ */
+public class ConstructorBinder<T> implements Binder<T> {
+    private static String TO_OBJ_ERROR = "Could not construct to object";
+    private Class<T> clazz;
+    private MethodHandle ctor; // (Object[])Object, null if it could not be found.
+    private Throwable ctorError;
+    private FieldStep[] steps;
+
+    public ConstructorBinder(Class<T> clazz, MethodHandle ctor, Throwable ctorError, FieldStep[] steps) {
+        this.clazz = clazz;
+        this.ctor = ctor;
+        this.ctorError = ctorError;
+        this.steps = steps;
+    }
+
+    @Override
+    public T bind(Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        if (ctor == null) {
+            throw new ParseException(TO_OBJ_ERROR, ctorError);
+        }
+
+        int before = errors == null ? 0 : errors.size();
+        Object[] values = new Object[steps.length];
+        for(int i = 0; i < steps.length; i++) {
+            values[i] = steps[i].value(null, from, errors);
+        }
+        if (errors != null && errors.size() > before) {
+            // the constructor may reject the absent values, the result does not need an instance.
+            return null;
+        }
+
+        try {
+            return clazz.cast((Object) ctor.invokeExact(values));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ParseException(TO_OBJ_ERROR, e);
+        }
+    }
+
+    /**
+     * The instance can not be changed, a new one is made.
+     */
+    @Override
+    public T into(T to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return bind(from, errors);
+    }
+
+    @Override
+    public FieldStep[] getSteps() {
+        return steps;
+    }
+
+    public Class<T> getClazz() {
+        return clazz;
+    }
+}
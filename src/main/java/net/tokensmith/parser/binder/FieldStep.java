@@ -0,0 +1,49 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+
+import java.util.List;
+
+
+/**
+ * Validates and converts the input for one field. Everything it needs is resolved when it is made.
+ * The binder that owns the step assigns the value to the field.
+ */
+public interface FieldStep {
+    /**
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param from the input, at the level of the binder that owns the step.
+     * @param errors where failures of the input are added, if null they are thrown. When a failure is
+     *               added the value is what it would be if the input was absent.
+     * @return the value to assign to the field
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null.
+     * @throws ParseException if something went wrong in the framework.
+     */
+    Object value(Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException;
+
+    /**
+     * Same as value, for a field that has current assigned to it. Nested steps fill current
+     * instead of making a new instance.
+     *
+     * @param current the value of the field in to, null if it is not known.
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param from the input, at the level of the binder that owns the step.
+     * @param errors where failures of the input are added, if null they are thrown.
+     * @return the value to assign to the field
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null.
+     * @throws ParseException if something went wrong in the framework.
+     */
+    default Object into(Object current, Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return value(to, from, errors);
+    }
+
+    /**
+     * @return the name of the parameter the step reads.
+     */
+    String getParam();
+}
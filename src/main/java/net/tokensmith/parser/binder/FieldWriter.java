@@ -0,0 +1,24 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+
+import java.util.List;
+
+
+/**
+ * A step that assigns its field itself, so its value is not boxed to be passed to the binder.
+ */
+public interface FieldWriter extends FieldStep {
+    /**
+     * @param to the instance being translated to
+     * @param from the input, at the level of the binder that owns the step.
+     * @param errors where failures of the input are added, if null they are thrown.
+     * @throws RequiredException if a field that is required is empty, null, or not present
+     * @throws OptionalException if a field that is optional is present and empty or null.
+     * @throws ParseException if something went wrong in the framework.
+     */
+    void write(Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException;
+}
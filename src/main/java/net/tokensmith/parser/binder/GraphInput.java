@@ -0,0 +1,44 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.graph.GraphNode;
+import net.tokensmith.parser.model.NodeData;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Input that was translated to a graph by GraphTranslator.
+ */
+public class GraphInput implements Input {
+    private Map<String, GraphNode<NodeData>> from;
+
+    public GraphInput(Map<String, GraphNode<NodeData>> from) {
+        this.from = from;
+    }
+
+    @Override
+    public List<String> values(String param) {
+        GraphNode<NodeData> node = from.get(param);
+        if (node != null && node.getData() != null) {
+            return node.getData().getValues();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean has(String param) {
+        return from.get(param) != null;
+    }
+
+    @Override
+    public boolean hasChildren(String param) {
+        GraphNode<NodeData> node = from.get(param);
+        return node != null && node.hasChildren();
+    }
+
+    @Override
+    public Input child(String param) {
+        return new GraphInput(from.get(param).getChildMap());
+    }
+}
@@ -0,0 +1,34 @@
+package net.tokensmith.parser.binder;
+
+import java.util.List;
+
+
+/**
+ * The input a Binder reads, one level of it. Params are relative to the level, the param of a
+ * field in a nested class is found in the child of the nested param.
+ */
+public interface Input {
+    /**
+     * @param param the name of a parameter
+     * @return its values, null if it is not present or has no values of its own.
+     */
+    List<String> values(String param);
+
+    /**
+     * @param param the name of a parameter
+     * @return true if param, or anything nested in it, is present.
+     */
+    boolean has(String param);
+
+    /**
+     * @param param the name of a parameter
+     * @return true if something is nested in param.
+     */
+    boolean hasChildren(String param);
+
+    /**
+     * @param param the name of a nested parameter
+     * @return the input nested in param
+     */
+    Input child(String param);
+}
@@ -0,0 +1,363 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.exception.DecodeException;
+import net.tokensmith.parser.form.FormSink;
+import net.tokensmith.parser.form.PercentDecoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The full dotted key of every parameter a Binder reads, such as, nested.opt_string, made once
+ * per class. It reads the input in one pass over its entries, without translating it to a graph.
+ * Keys that no parameter has are skipped without allocating.
+ *
+ * A key is split on dots the same way GraphTranslator splits it. Trailing dots are ignored unless
+ * the key has no other dot, then the key is used as is.
+ */
+public class KeyIndex {
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte HAS_CHILDREN = 2;
+
+    // open addressing, hashed like String.hashCode so a range of characters can be looked up.
+    private String[] table;
+    private int[] tableSlots;
+    private int mask;
+    private int values;
+    private String[] nestedPaths; // nested slot to full path.
+    // the nested paths hashed the same way, so mark looks up the dotted prefixes of a key.
+    private String[] nestedTable;
+    private int[] nestedTableSlots;
+    private int nestedMask;
+    private int maxNestedLength;
+    private Level root;
+    private PercentDecoder decoder = new PercentDecoder();
+
+    protected KeyIndex(Map<String, Integer> paths, String[] nestedPaths, Level root) {
+        this.mask = capacity(paths.size()) - 1;
+        this.table = new String[mask + 1];
+        this.tableSlots = new int[mask + 1];
+        for(Map.Entry<String, Integer> path: paths.entrySet()) {
+            put(table, tableSlots, mask, path.getKey(), path.getValue());
+        }
+        this.values = paths.size();
+
+        this.nestedMask = capacity(nestedPaths.length) - 1;
+        this.nestedTable = new String[nestedMask + 1];
+        this.nestedTableSlots = new int[nestedMask + 1];
+        for(int i = 0; i < nestedPaths.length; i++) {
+            put(nestedTable, nestedTableSlots, nestedMask, nestedPaths[i], i);
+            maxNestedLength = Math.max(maxNestedLength, nestedPaths[i].length());
+        }
+        this.nestedPaths = nestedPaths;
+        this.root = root;
+    }
+
+    protected static int capacity(int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2) * 2;
+    }
+
+    protected static void put(String[] table, int[] tableSlots, int mask, String path, int slot) {
+        int i = index(path.hashCode(), mask);
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+        table[i] = path;
+        tableSlots[i] = slot;
+    }
+
+    /**
+     * @param binder the binder to index
+     * @return the index of binder, null if a param has a dot in its name. Those can only be found by
+     *         translating the input to a graph.
+     */
+    public static KeyIndex of(Binder<?> binder) {
+        Map<String, Integer> paths = new HashMap<>();
+        List<String> nestedPaths = new ArrayList<>();
+        Level root = level(binder, "", paths, nestedPaths);
+        if (root == null) {
+            return null;
+        }
+        return new KeyIndex(paths, nestedPaths.toArray(new String[0]), root);
+    }
+
+    protected static Level level(Binder<?> binder, String prefix, Map<String, Integer> paths, List<String> nestedPaths) {
+        Map<String, Integer> valueSlots = new HashMap<>();
+        Map<String, Integer> nestedSlots = new HashMap<>();
+        Map<String, Level> children = new HashMap<>();
+
+        for(FieldStep step: binder.getSteps()) {
+            String param = step.getParam();
+            if (param.indexOf('.') >= 0) {
+                return null;
+            }
+
+            String path = prefix + param;
+            if (step instanceof NestedStep) {
+                int slot = nestedPaths.size();
+                nestedPaths.add(path);
+                Level child = level(((NestedStep) step).getBinder(), path + ".", paths, nestedPaths);
+                if (child == null) {
+                    return null;
+                }
+                nestedSlots.put(param, slot);
+                children.put(param, child);
+            } else {
+                Integer slot = paths.get(path);
+                if (slot == null) {
+                    slot = paths.size();
+                    paths.put(path, slot);
+                }
+                valueSlots.put(param, slot);
+            }
+        }
+        return new Level(valueSlots, nestedSlots, children);
+    }
+
+    /**
+     * @param from the input, keys are dotted paths.
+     * @return the input for the binder that was indexed.
+     */
+    public Input read(Map<String, List<String>> from) {
+        Reader reader = reader();
+        for(Map.Entry<String, List<String>> entry: from.entrySet()) {
+            reader.put(entry.getKey(), entry.getValue());
+        }
+        return reader.input();
+    }
+
+    /**
+     * @return a Reader to add the input to one key at a time.
+     */
+    public Reader reader() {
+        return new Reader();
+    }
+
+    /**
+     * @param key the input
+     * @param start the index of the first character of the key
+     * @param end the index after the last character of the key
+     * @return the value slot of the key, -1 if no param has it.
+     */
+    protected int slot(CharSequence key, int start, int end) {
+        int hash = 0;
+        for(int i = start; i < end; i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return slot(key, start, end, hash);
+    }
+
+    protected int slot(CharSequence key, int start, int end, int hash) {
+        return find(table, tableSlots, mask, key, start, end, hash);
+    }
+
+    protected int find(String[] table, int[] tableSlots, int mask, CharSequence key, int start, int end, int hash) {
+        int length = end - start;
+        for(int i = index(hash, mask); table[i] != null; i = (i + 1) & mask) {
+            String path = table[i];
+            if (path.length() == length && regionMatches(key, start, path, 0, length)) {
+                return tableSlots[i];
+            }
+        }
+        return -1;
+    }
+
+    protected static int index(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // the end of the key GraphTranslator would use.
+    protected int end(CharSequence key, int start, int end) {
+        int last = end;
+        while (last > start && key.charAt(last - 1) == '.') {
+            last--;
+        }
+        if (last == end) {
+            return end;
+        }
+        for(int i = last - 1; i >= start; i--) {
+            if (key.charAt(i) == '.') {
+                return last;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Marks the nested path equal to the key as present, and the nested paths that are a dotted
+     * prefix of it as having children. Each prefix is looked up as the key is hashed.
+     */
+    protected void mark(CharSequence key, int start, int end, byte[] nested) {
+        int hash = 0;
+        // a longer prefix can not be a nested path.
+        int last = Math.min(end, start + maxNestedLength + 1);
+        for(int i = start; i < last; i++) {
+            char c = key.charAt(i);
+            if (c == '.' && i + 1 < end) {
+                int slot = find(nestedTable, nestedTableSlots, nestedMask, key, start, i, hash);
+                if (slot >= 0) {
+                    nested[slot] = HAS_CHILDREN;
+                }
+            }
+            hash = 31 * hash + c;
+        }
+        if (end == last) {
+            int slot = find(nestedTable, nestedTableSlots, nestedMask, key, start, end, hash);
+            if (slot >= 0 && nested[slot] == ABSENT) {
+                nested[slot] = PRESENT;
+            }
+        }
+    }
+
+    protected boolean regionMatches(CharSequence key, int start, String path, int pathStart, int length) {
+        for(int i = 0; i < length; i++) {
+            if (key.charAt(start + i) != path.charAt(pathStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return values + nestedPaths.length;
+    }
+
+    /**
+     * Collects the input for one translation, it is not thread safe.
+     */
+    public class Reader implements FormSink {
+        private List<String>[] slots;
+        private byte[] nested;
+
+        @SuppressWarnings("unchecked")
+        protected Reader() {
+            this.slots = new List[values];
+            this.nested = new byte[nestedPaths.length];
+        }
+
+        /**
+         * @param key the key, not encoded
+         * @param value the values of key
+         */
+        public void put(String key, List<String> value) {
+            int end = end(key, 0, key.length());
+            int slot = end == key.length() ? slot(key, 0, end, key.hashCode()) : slot(key, 0, end);
+            if (slot >= 0) {
+                slots[slot] = value;
+            }
+            if (nested.length > 0) {
+                mark(key, 0, end, nested);
+            }
+        }
+
+        @Override
+        public int key(CharSequence source, int start, int end) throws DecodeException {
+            if (decoder.encoded(source, start, end)) {
+                String key = decoder.decode(source, start, end);
+                source = key;
+                start = 0;
+                end = key.length();
+            }
+            end = end(source, start, end);
+            if (nested.length > 0) {
+                mark(source, start, end, nested);
+            }
+            return slot(source, start, end);
+        }
+
+        @Override
+        public void value(int slot, String value) {
+            List<String> current = slots[slot];
+            if (current == null) {
+                slots[slot] = Collections.singletonList(value);
+            } else {
+                if (!(current instanceof ArrayList)) {
+                    current = new ArrayList<>(current);
+                    slots[slot] = current;
+                }
+                current.add(value);
+            }
+        }
+
+        public Input input() {
+            return new FlatInput(root, slots, nested);
+        }
+    }
+
+    /**
+     * The params of one binder, relative to it.
+     */
+    protected static class Level {
+        private Map<String, Integer> valueSlots;
+        private Map<String, Integer> nestedSlots;
+        private Map<String, Level> children;
+
+        public Level(Map<String, Integer> valueSlots, Map<String, Integer> nestedSlots, Map<String, Level> children) {
+            this.valueSlots = valueSlots;
+            this.nestedSlots = nestedSlots;
+            this.children = children;
+        }
+
+        public Integer valueSlot(String param) {
+            return valueSlots.get(param);
+        }
+
+        public Integer nestedSlot(String param) {
+            return nestedSlots.get(param);
+        }
+
+        public Level child(String param) {
+            return children.get(param);
+        }
+    }
+
+    /**
+     * One level of the input read by a KeyIndex.
+     */
+    protected static class FlatInput implements Input {
+        private Level level;
+        private List<String>[] values;
+        private byte[] nested;
+
+        public FlatInput(Level level, List<String>[] values, byte[] nested) {
+            this.level = level;
+            this.values = values;
+            this.nested = nested;
+        }
+
+        @Override
+        public List<String> values(String param) {
+            Integer slot = level.valueSlot(param);
+            return slot == null ? null : values[slot];
+        }
+
+        @Override
+        public boolean has(String param) {
+            Integer slot = level.nestedSlot(param);
+            if (slot != null) {
+                return nested[slot] != ABSENT;
+            }
+            return values(param) != null;
+        }
+
+        @Override
+        public boolean hasChildren(String param) {
+            Integer slot = level.nestedSlot(param);
+            return slot != null && nested[slot] == HAS_CHILDREN;
+        }
+
+        @Override
+        public Input child(String param) {
+            Level child = level.child(param);
+            if (child == null) {
+                child = new Level(Map.of(), Map.of(), Map.of());
+            }
+            return new FlatInput(child, values, nested);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A List field, same as ListParser and EmptyListParser.
+ */
+public class ListStep extends ValueStep {
+    private ParserUtils parserUtils;
+    private boolean parsable;
+    private String delimiter;
+
+    public ListStep(FieldRules rules, FieldValidator fieldValidator, ParserUtils parserUtils, boolean parsable, String delimiter) {
+        super(rules, fieldValidator);
+        this.parserUtils = parserUtils;
+        this.parsable = parsable;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    protected Object present(Object to, List<String> values, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        List<String> parsed = values;
+        if (parsable) {
+            parsed = new ArrayList<>();
+            for(String value: values) {
+                parsed.addAll(parserUtils.stringToList(value, delimiter));
+            }
+        }
+
+        if (!fieldValidator.isExpected(rules, parsed)) {
+            return fieldValidator.unsupported(rules, values.get(0), to, errors);
+        }
+
+        ArrayList<Object> items = new ArrayList<>(parsed.size());
+        for(String value: parsed) {
+            Object item = fieldValidator.build(rules, value, to, errors);
+            if (item == INVALID) {
+                return INVALID;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Override
+    protected Object absent() {
+        return new ArrayList<>();
+    }
+}
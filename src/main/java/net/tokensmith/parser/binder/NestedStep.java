@@ -0,0 +1,103 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.ErrorCode;
+import net.tokensmith.parser.validator.exception.EmptyValueError;
+import net.tokensmith.parser.validator.exception.ParamIsNullError;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * A nested field, same as Parser.validateNested followed by a NestedTypeSetter. Like
+ * validateNested, the exceptions it throws have the param in their field.
+ */
+public class NestedStep implements FieldStep {
+    private static String REQ_ERROR = "Required field failed validation";
+    private static String IS_NULL = "Param value for, %s, is null";
+    private static String NOT_PRESENT = "Param value for, %s, is not present";
+
+    private String field;
+    private String param;
+    private boolean required;
+    private boolean optional;
+    private Binder<?> binder;
+    private ParserUtils parserUtils;
+
+    public NestedStep(String field, String param, boolean required, boolean optional, Binder<?> binder, ParserUtils parserUtils) {
+        this.field = field;
+        this.param = param;
+        this.required = required;
+        this.optional = optional;
+        this.binder = binder;
+        this.parserUtils = parserUtils;
+    }
+
+    @Override
+    public Object value(Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return into(null, to, from, errors);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object into(Object current, Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        boolean present = from.has(param);
+        boolean hasChildren = from.hasChildren(param);
+
+        if (!present && required) {
+            if (errors != null) {
+                errors.add(new FieldError(field, param, ErrorCode.PARAM_IS_NULL));
+                return absent();
+            }
+            ParamIsNullError cause = new ParamIsNullError(IS_NULL, param, !parserUtils.isStackless());
+            throw parserUtils.requiredException(REQ_ERROR, cause, param, null, to);
+        } else if (present && !hasChildren && !required) {
+            if (errors != null) {
+                errors.add(new FieldError(field, param, ErrorCode.EMPTY_VALUE));
+                return absent();
+            }
+            EmptyValueError cause = new EmptyValueError(NOT_PRESENT, param, !parserUtils.isStackless());
+            throw parserUtils.optionalException("", cause, param, null, to);
+        }
+
+        if (present) {
+            int before = errors == null ? 0 : errors.size();
+            Object existing = optional && current != null ? ((Optional<Object>) current).orElse(null) : current;
+            Object item;
+            if (existing != null) {
+                item = ((Binder<Object>) binder).into(existing, from.child(param), errors);
+            } else {
+                item = binder.bind(from.child(param), errors);
+            }
+            if (errors != null && errors.size() > before) {
+                for(int i = before; i < errors.size(); i++) {
+                    errors.set(i, errors.get(i).nested(param));
+                }
+            }
+            if (optional) {
+                // a ConstructorBinder that collected errors has no instance.
+                return hasChildren && item != null ? Optional.of(item) : Optional.empty();
+            }
+            return item;
+        }
+        return absent();
+    }
+
+    protected Object absent() {
+        return optional ? Optional.empty() : null;
+    }
+
+    @Override
+    public String getParam() {
+        return param;
+    }
+
+    public Binder<?> getBinder() {
+        return binder;
+    }
+}
@@ -0,0 +1,33 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * A Optional field, same as OptionalParser and EmptyOptionalParser.
+ */
+public class OptionalStep extends ValueStep {
+
+    public OptionalStep(FieldRules rules, FieldValidator fieldValidator) {
+        super(rules, fieldValidator);
+    }
+
+    @Override
+    protected Object present(Object to, List<String> values, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        Object item = fieldValidator.value(rules, values.get(0), to, errors);
+        return item == INVALID ? INVALID : Optional.of(item);
+    }
+
+    @Override
+    protected Object absent() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,110 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.builder.Primitives;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+
+
+/**
+ * A field of a primitive number type or boolean. The value is parsed and written with a setter of
+ * the primitive type so it is never boxed. When it is absent the field is written its default, 0 or false.
+ *
+ * value is still used when the field is a constructor parameter, the builder boxes it then.
+ */
+public class PrimitiveStep extends ValueStep implements FieldWriter {
+    private static String FIELD_ERROR = "Could not set field value";
+    private Class<?> type;
+    private MethodHandle writer; // (Object, type)void
+    private Object absent;
+
+    public PrimitiveStep(FieldRules rules, FieldValidator fieldValidator, Class<?> type, MethodHandle writer) {
+        super(rules, fieldValidator);
+        this.type = type;
+        this.writer = writer;
+        this.absent = Primitives.defaultValue(type);
+    }
+
+    @Override
+    public void write(Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        List<String> values = from.values(rules.getParamName());
+
+        if (!fieldValidator.validate(rules, values, to, errors) || values == null || values.isEmpty()) {
+            writeAbsent(to);
+            return;
+        }
+
+        String value = values.get(0);
+        if (!rules.getExpected().matches(value)) {
+            fieldValidator.unsupported(rules, value, to, errors);
+            writeAbsent(to);
+            return;
+        }
+
+        try {
+            if (type == int.class) {
+                writer.invokeExact(to, Integer.parseInt(value));
+            } else if (type == long.class) {
+                writer.invokeExact(to, Long.parseLong(value));
+            } else if (type == boolean.class) {
+                writer.invokeExact(to, Primitives.parseBoolean(value));
+            } else if (type == double.class) {
+                writer.invokeExact(to, Primitives.parseDouble(value));
+            } else if (type == float.class) {
+                writer.invokeExact(to, Primitives.parseFloat(value));
+            } else if (type == short.class) {
+                writer.invokeExact(to, Short.parseShort(value));
+            } else {
+                writer.invokeExact(to, Byte.parseByte(value));
+            }
+        } catch (IllegalArgumentException e) {
+            // the builder fails the same way, it reports it.
+            fieldValidator.build(rules, value, to, errors);
+            writeAbsent(to);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ParseException(FIELD_ERROR, e);
+        }
+    }
+
+    protected void writeAbsent(Object to) throws ParseException {
+        try {
+            if (type == int.class) {
+                writer.invokeExact(to, 0);
+            } else if (type == long.class) {
+                writer.invokeExact(to, 0L);
+            } else if (type == boolean.class) {
+                writer.invokeExact(to, false);
+            } else if (type == double.class) {
+                writer.invokeExact(to, 0.0d);
+            } else if (type == float.class) {
+                writer.invokeExact(to, 0.0f);
+            } else if (type == short.class) {
+                writer.invokeExact(to, (short) 0);
+            } else {
+                writer.invokeExact(to, (byte) 0);
+            }
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ParseException(FIELD_ERROR, e);
+        }
+    }
+
+    @Override
+    protected Object present(Object to, List<String> values, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return fieldValidator.value(rules, values.get(0), to, errors);
+    }
+
+    @Override
+    protected Object absent() {
+        return absent;
+    }
+}
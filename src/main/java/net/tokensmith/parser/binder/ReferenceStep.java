@@ -0,0 +1,31 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.util.List;
+
+
+/**
+ * A field that is not a List or Optional, same as ReferenceTypeParser and ReferenceTypeNullParser.
+ */
+public class ReferenceStep extends ValueStep {
+
+    public ReferenceStep(FieldRules rules, FieldValidator fieldValidator) {
+        super(rules, fieldValidator);
+    }
+
+    @Override
+    protected Object present(Object to, List<String> values, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        return fieldValidator.value(rules, values.get(0), to, errors);
+    }
+
+    @Override
+    protected Object absent() {
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package net.tokensmith.parser.binder;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.FieldValidator;
+
+import java.util.List;
+
+
+/**
+ * A step for a field that is not nested. Subclasses decide what is assigned when the
+ * input is present and when it is absent. The input is validated and built by the same
+ * FieldValidator the reflective parsers use.
+ */
+public abstract class ValueStep implements FieldStep {
+    // returned by present when a failure was added to errors.
+    protected static final Object INVALID = FieldValidator.INVALID;
+
+    protected FieldRules rules;
+    protected FieldValidator fieldValidator;
+
+    public ValueStep(FieldRules rules, FieldValidator fieldValidator) {
+        this.rules = rules;
+        this.fieldValidator = fieldValidator;
+    }
+
+    @Override
+    public Object value(Object to, Input from, List<FieldError> errors) throws RequiredException, OptionalException, ParseException {
+        List<String> values = from.values(rules.getParamName());
+
+        if (!fieldValidator.validate(rules, values, to, errors)) {
+            return absent();
+        }
+
+        if (values == null || values.isEmpty()) {
+            return absent();
+        }
+
+        Object value = present(to, values, errors);
+        return value == INVALID ? absent() : value;
+    }
+
+    @Override
+    public String getParam() {
+        return rules.getParamName();
+    }
+
+    public FieldRules getRules() {
+        return rules;
+    }
+
+    /**
+     * @param to the instance being translated to
+     * @param values the input, it is valid and not empty.
+     * @param errors where failures are added, if null they are thrown.
+     * @return the value of the field, INVALID if a failure was added to errors.
+     */
+    protected abstract Object present(Object to, List<String> values, List<FieldError> errors) throws RequiredException, OptionalException, ParseException;
+
+    protected abstract Object absent();
+}
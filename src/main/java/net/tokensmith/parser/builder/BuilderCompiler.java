@@ -0,0 +1,124 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.exception.ReflectException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * Makes builders, Function&lt;String, Object&gt;, for classes that do not have one registered.
+ *
+ * A builder calls either a constructor that accepts a String or a static factory method,
+ * valueOf, of, parse, fromString, that accepts a String or CharSequence. Where possible the
+ * builder is a lambda made by LambdaMetafactory so the JIT can inline it like hand written code.
+ * Enums are built by an EnumBuilder from the names of their constants.
+ */
+public class BuilderCompiler {
+    private static MethodType FUNCTION_TYPE = MethodType.methodType(Function.class);
+    private static MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static List<String> FACTORY_NAMES = Arrays.asList("valueOf", "of", "parse", "fromString");
+    private static List<Class<?>> FACTORY_PARAMS = Arrays.asList(String.class, CharSequence.class);
+    private boolean caseInsensitiveEnums;
+
+    public BuilderCompiler() {
+        this(false);
+    }
+
+    /**
+     * @param caseInsensitiveEnums if true, enum constants are matched ignoring case.
+     */
+    public BuilderCompiler(boolean caseInsensitiveEnums) {
+        this.caseInsensitiveEnums = caseInsensitiveEnums;
+    }
+
+    public Function<String, Object> compile(Class<?> target) throws ReflectException {
+        if (String.class.equals(target)) {
+            return s -> s;
+        }
+        if (target.isEnum()) {
+            return new EnumBuilder(target, caseInsensitiveEnums);
+        }
+
+        MethodHandles.Lookup lookup = lookupFor(target);
+        MethodHandle handle = findConstructor(lookup, target);
+        if (handle == null) {
+            handle = findFactory(lookup, target);
+        }
+
+        if (handle == null) {
+            NoSuchMethodException cause = new NoSuchMethodException(target.getName() + ".<init>(java.lang.String)");
+            throw new ReflectException(
+                String.format("Unable to find constructor or factory with String parameter for %s", target.getName()),
+                cause,
+                target.getName()
+            );
+        }
+
+        return new CompiledBuilder(toFunction(handle));
+    }
+
+    protected MethodHandles.Lookup lookupFor(Class<?> target) throws ReflectException {
+        if (Modifier.isPublic(target.getModifiers())) {
+            return MethodHandles.lookup();
+        }
+        try {
+            return MethodHandles.privateLookupIn(target, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new ReflectException(String.format("Unable to access %s", target.getName()), e, target.getName());
+        }
+    }
+
+    protected MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> target) {
+        try {
+            target.getConstructor(String.class);
+            return lookup.findConstructor(target, MethodType.methodType(void.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    protected MethodHandle findFactory(MethodHandles.Lookup lookup, Class<?> target) {
+        for(String name: FACTORY_NAMES) {
+            for(Class<?> param: FACTORY_PARAMS) {
+                Method method;
+                try {
+                    method = target.getMethod(name, param);
+                } catch (NoSuchMethodException e) {
+                    continue;
+                }
+
+                if (Modifier.isStatic(method.getModifiers()) && target.isAssignableFrom(method.getReturnType())) {
+                    try {
+                        return lookup.unreflect(method);
+                    } catch (IllegalAccessException e) {
+                        // try the next one.
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Function<String, Object> toFunction(MethodHandle handle) {
+        MethodType instantiated = MethodType.methodType(handle.type().returnType(), String.class);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(), "apply", FUNCTION_TYPE, APPLY_TYPE, handle, instantiated
+            );
+            return (Function<String, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            // handle is not visible to this class, such as a constructor of a non public class.
+            return new MethodHandleBuilder(handle);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.util.function.Function;
+
+
+public class CompiledBuilder implements Function<String, Object> {
+    private Function<String, Object> converter;
+
+    public CompiledBuilder(Function<String, Object> converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public Object apply(String s) {
+        Object item;
+        try {
+            item = converter.apply(s);
+        } catch (ConstructException e) {
+            throw e;
+        } catch (Exception e) {
+            // constructors and factories may throw checked exceptions, URISyntaxException.
+            throw new ConstructException("Unable to construct with value, " + s, e, s);
+        }
+        return item;
+    }
+}
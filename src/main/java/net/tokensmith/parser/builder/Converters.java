@@ -0,0 +1,112 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+
+/**
+ * The builders that are registered by default, so common types are not compiled by the
+ * BuilderCompiler. Each one wraps failures in a ConstructException that has the value.
+ */
+public class Converters {
+    private static Map<String, Charset> CHARSETS = new HashMap<>();
+
+    static {
+        for(Charset charset: new Charset[]{
+                StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1,
+                StandardCharsets.UTF_16, StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE}) {
+            CHARSETS.put(charset.name().toLowerCase(Locale.ROOT), charset);
+            for(String alias: charset.aliases()) {
+                CHARSETS.put(alias.toLowerCase(Locale.ROOT), charset);
+            }
+        }
+    }
+
+    /**
+     * @return a new map of class name to builder, for the number types, their primitives, Boolean,
+     * Duration, Locale, Charset, LazyURI and the ISO-8601 java.time types in IsoTime.
+     */
+    public static Map<String, Function<String, Object>> builders() {
+        Map<String, Function<String, Object>> builders = new HashMap<>();
+        for(String name: new String[]{
+                "byte", "short", "int", "long", "float", "double", "boolean",
+                "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+                "java.lang.Float", "java.lang.Double", "java.lang.Boolean"}) {
+            builders.put(name, Primitives.builder(name));
+        }
+        builders.put("java.math.BigInteger", Converters::bigInteger);
+        builders.put("java.math.BigDecimal", Converters::bigDecimal);
+        builders.put("java.time.Duration", Converters::duration);
+        builders.put("java.time.Instant", IsoTime::instant);
+        builders.put("java.time.OffsetDateTime", IsoTime::offsetDateTime);
+        builders.put("java.time.LocalDateTime", IsoTime::localDateTime);
+        builders.put("java.time.LocalDate", IsoTime::localDate);
+        builders.put("java.util.Locale", Converters::locale);
+        builders.put("java.nio.charset.Charset", Converters::charset);
+        builders.put("net.tokensmith.parser.LazyURI", new LazyURIBuilder());
+        return builders;
+    }
+
+    public static Object bigInteger(String s) {
+        try {
+            return new BigInteger(s);
+        } catch (NumberFormatException e) {
+            throw new ConstructException("Unable to construct BigInteger", e, s);
+        }
+    }
+
+    public static Object bigDecimal(String s) {
+        try {
+            return new BigDecimal(s);
+        } catch (NumberFormatException e) {
+            throw new ConstructException("Unable to construct BigDecimal", e, s);
+        }
+    }
+
+    public static Object duration(String s) {
+        try {
+            return Duration.parse(s);
+        } catch (RuntimeException e) {
+            throw new ConstructException("Unable to construct Duration", e, s);
+        }
+    }
+
+    /**
+     * @param s a BCP 47 language tag, en-US. Underscores are accepted as separators, en_US.
+     * @return the Locale
+     */
+    public static Object locale(String s) {
+        try {
+            return new Locale.Builder().setLanguageTag(s.replace('_', '-')).build();
+        } catch (IllformedLocaleException | NullPointerException e) {
+            throw new ConstructException("Unable to construct Locale", e, s);
+        }
+    }
+
+    /**
+     * @param s the name or an alias of a charset, in any case. The standard charsets are found
+     *          without asking the runtime.
+     * @return the Charset
+     */
+    public static Object charset(String s) {
+        Charset charset = s != null ? CHARSETS.get(s.toLowerCase(Locale.ROOT)) : null;
+        if (charset != null) {
+            return charset;
+        }
+        try {
+            return Charset.forName(s);
+        } catch (IllegalArgumentException e) {
+            throw new ConstructException("Unable to construct Charset", e, s);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+
+/**
+ * Builds the constant of an enum from its name. The names are put in a map once, when case
+ * insensitive they are also put in lower case and the input is only lower cased when it does not
+ * match exactly.
+ */
+public class EnumBuilder implements Function<String, Object> {
+    private String enumName;
+    private boolean caseInsensitive;
+    private Map<String, Object> constants = new HashMap<>();
+
+    public EnumBuilder(Class<?> target, boolean caseInsensitive) {
+        this.enumName = target.getName();
+        this.caseInsensitive = caseInsensitive;
+        for(Object constant: target.getEnumConstants()) {
+            String name = ((Enum<?>) constant).name();
+            constants.put(name, constant);
+            if (caseInsensitive) {
+                constants.putIfAbsent(name.toLowerCase(Locale.ROOT), constant);
+            }
+        }
+    }
+
+    @Override
+    public Object apply(String s) {
+        Object constant = constants.get(s);
+        if (constant == null && caseInsensitive && s != null) {
+            constant = constants.get(s.toLowerCase(Locale.ROOT));
+        }
+        if (constant == null) {
+            IllegalArgumentException cause = new IllegalArgumentException(String.format("No constant of %s named %s", enumName, s));
+            throw new ConstructException("Unable to construct " + enumName, cause, s);
+        }
+        return constant;
+    }
+}
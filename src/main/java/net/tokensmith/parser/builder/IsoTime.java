@@ -0,0 +1,172 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+
+/**
+ * Builders for java.time types from ISO-8601. The usual layouts are scanned by hand,
+ * 2020-01-31 and 2020-01-31T10:15:30, with an optional fraction of 1 to 9 digits and an offset of
+ * Z or +01:00. Anything else is given to the JDK parser, which decides if it is valid.
+ */
+public class IsoTime {
+    private static int NO_OFFSET = Integer.MAX_VALUE;
+    private static int BAD_OFFSET = Integer.MIN_VALUE;
+    private static int[] SCALE = {
+        100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1
+    };
+
+    public static Object localDate(String s) {
+        try {
+            if (s.length() == 10 && s.charAt(4) == '-' && s.charAt(7) == '-') {
+                int year = digits(s, 0, 4);
+                int month = digits(s, 5, 2);
+                int day = digits(s, 8, 2);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    return LocalDate.of(year, month, day);
+                }
+            }
+            return LocalDate.parse(s);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new ConstructException("Unable to construct LocalDate", e, s);
+        }
+    }
+
+    public static Object localDateTime(String s) {
+        try {
+            int end = end(s);
+            if (end > 0 && offset(s, end) == NO_OFFSET) {
+                return local(s, end);
+            }
+            return LocalDateTime.parse(s);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new ConstructException("Unable to construct LocalDateTime", e, s);
+        }
+    }
+
+    public static Object offsetDateTime(String s) {
+        try {
+            int end = end(s);
+            int offset = end > 0 ? offset(s, end) : BAD_OFFSET;
+            if (offset != BAD_OFFSET && offset != NO_OFFSET) {
+                return OffsetDateTime.of(local(s, end), ZoneOffset.ofTotalSeconds(offset));
+            }
+            return OffsetDateTime.parse(s);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new ConstructException("Unable to construct OffsetDateTime", e, s);
+        }
+    }
+
+    public static Object instant(String s) {
+        try {
+            int end = end(s);
+            int offset = end > 0 ? offset(s, end) : BAD_OFFSET;
+            if (offset != BAD_OFFSET && offset != NO_OFFSET) {
+                LocalDateTime local = local(s, end);
+                return Instant.ofEpochSecond(local.toEpochSecond(ZoneOffset.UTC) - offset, local.getNano());
+            }
+            return Instant.parse(s);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new ConstructException("Unable to construct Instant", e, s);
+        }
+    }
+
+    /**
+     * @param s the input
+     * @return the index after the seconds and fraction of a yyyy-MM-ddTHH:mm:ss layout, -1 if s is not
+     * that layout or the JDK should decide, such as a leap second.
+     */
+    protected static int end(String s) {
+        int length = s.length();
+        if (length < 19
+                || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+                || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return -1;
+        }
+        if (digits(s, 0, 4) < 0 || digits(s, 5, 2) < 0 || digits(s, 8, 2) < 0
+                || digits(s, 11, 2) < 0 || digits(s, 14, 2) < 0) {
+            return -1;
+        }
+        int second = digits(s, 17, 2);
+        if (second < 0 || second == 60) {
+            return -1;
+        }
+
+        int end = 19;
+        if (end < length && s.charAt(end) == '.') {
+            int start = end + 1;
+            end = start;
+            while (end < length && end - start < 9 && isDigit(s.charAt(end))) {
+                end++;
+            }
+            if (end == start) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    // s must have been checked by end.
+    protected static LocalDateTime local(String s, int end) {
+        int nano = 0;
+        if (end > 19) {
+            int count = end - 20;
+            nano = digits(s, 20, count) * SCALE[count - 1];
+        }
+        return LocalDateTime.of(
+            digits(s, 0, 4), digits(s, 5, 2), digits(s, 8, 2),
+            digits(s, 11, 2), digits(s, 14, 2), digits(s, 17, 2), nano
+        );
+    }
+
+    /**
+     * @param s the input
+     * @param from the index after the time
+     * @return the offset in seconds, NO_OFFSET if there is none, BAD_OFFSET if it is not Z or +HH:mm.
+     */
+    protected static int offset(String s, int from) {
+        int length = s.length();
+        if (from == length) {
+            return NO_OFFSET;
+        }
+        char sign = s.charAt(from);
+        if (sign == 'Z' && from + 1 == length) {
+            return 0;
+        }
+        if ((sign == '+' || sign == '-') && from + 6 == length && s.charAt(from + 3) == ':') {
+            int hours = digits(s, from + 1, 2);
+            int minutes = digits(s, from + 4, 2);
+            if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+                return BAD_OFFSET;
+            }
+            int seconds = hours * 3600 + minutes * 60;
+            return sign == '-' ? -seconds : seconds;
+        }
+        return BAD_OFFSET;
+    }
+
+    /**
+     * @return the value of the count digits at start, -1 if one of them is not a digit.
+     */
+    protected static int digits(String s, int start, int count) {
+        int value = 0;
+        for(int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    protected static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,27 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.LazyURI;
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+
+/**
+ * Builds a LazyURI, which only checks the syntax of the input.
+ */
+public class LazyURIBuilder implements TryBuilder {
+    private static String INVALID_URI = "Invalid URI: %s";
+
+    @Override
+    public Object apply(String s) {
+        Object item = tryApply(s);
+        if (item == INVALID) {
+            throw new ConstructException("Unable to construct LazyURI", new IllegalArgumentException(String.format(INVALID_URI, s)), s);
+        }
+        return item;
+    }
+
+    @Override
+    public Object tryApply(String s) {
+        LazyURI uri = LazyURI.parse(s);
+        return uri != null ? uri : INVALID;
+    }
+}
@@ -0,0 +1,30 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+
+public class MethodHandleBuilder implements Function<String, Object> {
+    private static MethodType BUILD_TYPE = MethodType.methodType(Object.class, String.class);
+    private MethodHandle handle;
+
+    public MethodHandleBuilder(MethodHandle handle) {
+        this.handle = handle.asType(BUILD_TYPE);
+    }
+
+    @Override
+    public Object apply(String s) {
+        Object item;
+        try {
+            item = (Object) handle.invokeExact(s);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ConstructException("Unable to construct with value, " + s, e, s);
+        }
+        return item;
+    }
+}
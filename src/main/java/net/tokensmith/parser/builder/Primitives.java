@@ -0,0 +1,255 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+
+/**
+ * The primitive types a field may have, the numbers and boolean, and the builders for them
+ * and their boxed types. Parsing does not make objects other than the boxed value.
+ */
+public class Primitives {
+    private static Map<String, Class<?>> TYPES = new HashMap<>();
+    private static Map<Class<?>, Object> DEFAULTS = new HashMap<>();
+    private static Map<String, Function<String, Object>> BUILDERS = new HashMap<>();
+    private static MethodHandle OR_DEFAULT; // (Object, Object)Object
+
+    static {
+        try {
+            OR_DEFAULT = MethodHandles.lookup().findStatic(
+                Primitives.class, "orDefault", MethodType.methodType(Object.class, Object.class, Object.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+
+        TYPES.put("byte", byte.class);
+        TYPES.put("short", short.class);
+        TYPES.put("int", int.class);
+        TYPES.put("long", long.class);
+        TYPES.put("float", float.class);
+        TYPES.put("double", double.class);
+        TYPES.put("boolean", boolean.class);
+
+        DEFAULTS.put(byte.class, (byte) 0);
+        DEFAULTS.put(short.class, (short) 0);
+        DEFAULTS.put(int.class, 0);
+        DEFAULTS.put(long.class, 0L);
+        DEFAULTS.put(float.class, 0.0f);
+        DEFAULTS.put(double.class, 0.0d);
+        DEFAULTS.put(boolean.class, false);
+
+        Function<String, Object> byteBuilder = s -> {
+            try {
+                return Byte.parseByte(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct byte", e, s);
+            }
+        };
+        Function<String, Object> shortBuilder = s -> {
+            try {
+                return Short.parseShort(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct short", e, s);
+            }
+        };
+
+        Function<String, Object> intBuilder = s -> {
+            try {
+                return Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct int", e, s);
+            }
+        };
+        Function<String, Object> longBuilder = s -> {
+            try {
+                return Long.parseLong(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct long", e, s);
+            }
+        };
+        Function<String, Object> booleanBuilder = s -> {
+            try {
+                return parseBoolean(s);
+            } catch (IllegalArgumentException e) {
+                throw new ConstructException("Unable to construct boolean", e, s);
+            }
+        };
+        Function<String, Object> floatBuilder = s -> {
+            try {
+                return parseFloat(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct float", e, s);
+            }
+        };
+        Function<String, Object> doubleBuilder = s -> {
+            try {
+                return parseDouble(s);
+            } catch (NumberFormatException e) {
+                throw new ConstructException("Unable to construct double", e, s);
+            }
+        };
+        BUILDERS.put("byte", byteBuilder);
+        BUILDERS.put("java.lang.Byte", byteBuilder);
+        BUILDERS.put("short", shortBuilder);
+        BUILDERS.put("java.lang.Short", shortBuilder);
+        BUILDERS.put("int", intBuilder);
+        BUILDERS.put("java.lang.Integer", intBuilder);
+        BUILDERS.put("long", longBuilder);
+        BUILDERS.put("java.lang.Long", longBuilder);
+        BUILDERS.put("boolean", booleanBuilder);
+        BUILDERS.put("java.lang.Boolean", booleanBuilder);
+        BUILDERS.put("float", floatBuilder);
+        BUILDERS.put("java.lang.Float", floatBuilder);
+        BUILDERS.put("double", doubleBuilder);
+        BUILDERS.put("java.lang.Double", doubleBuilder);
+    }
+
+    /**
+     * @param name the name of a primitive type, such as int
+     * @return the class of the primitive type, null if it is not supported.
+     */
+    public static Class<?> forName(String name) {
+        return TYPES.get(name);
+    }
+
+    /**
+     * @param className the name of a primitive type or its boxed type
+     * @return the builder, it returns the boxed value. Null if className is not supported.
+     */
+    public static Function<String, Object> builder(String className) {
+        return BUILDERS.get(className);
+    }
+
+    /**
+     * @param type a primitive type
+     * @return the boxed value a field of type has when it is absent, such as 0 or false.
+     */
+    public static Object defaultValue(Class<?> type) {
+        return DEFAULTS.get(type);
+    }
+
+    /**
+     * Unlike Boolean.parseBoolean, values other than true and false are rejected.
+     *
+     * @param value true or false, in any case
+     * @return the value
+     * @throws IllegalArgumentException if value is not true or false.
+     */
+    public static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Not a boolean: " + value);
+    }
+
+    /**
+     * Unlike Double.parseDouble, only a decimal number is accepted, such as -1.5 or 2.5e-3. NaN,
+     * Infinity, hex, a d or f suffix, surrounding whitespace and a number too large for a double are rejected.
+     *
+     * @param value a decimal number
+     * @return the value
+     * @throws NumberFormatException if value is not a decimal number or is not finite as a double.
+     */
+    public static double parseDouble(String value) {
+        if (!isDecimal(value)) {
+            throw new NumberFormatException("Not a decimal: " + value);
+        }
+        double parsed = Double.parseDouble(value);
+        if (Double.isInfinite(parsed)) {
+            throw new NumberFormatException("Too large for a double: " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Same rules as parseDouble, for a float.
+     *
+     * @param value a decimal number
+     * @return the value
+     * @throws NumberFormatException if value is not a decimal number or is not finite as a float.
+     */
+    public static float parseFloat(String value) {
+        if (!isDecimal(value)) {
+            throw new NumberFormatException("Not a decimal: " + value);
+        }
+        float parsed = Float.parseFloat(value);
+        if (Float.isInfinite(parsed)) {
+            throw new NumberFormatException("Too large for a float: " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * @param value the input
+     * @return true if value is an optional sign, digits with an optional fraction and an optional
+     * exponent. There must be a digit before or after the point.
+     */
+    protected static boolean isDecimal(String value) {
+        int length = value.length();
+        int i = 0;
+        if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        while (i < length && isDigit(value.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && value.charAt(i) == '.') {
+            i++;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i == exponent) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Adapts setter, which writes a primitive field, to accept null as the default value.
+     *
+     * @param setter a setter of a primitive field, (Object, type)void
+     * @param type the primitive type
+     * @return the setter, (Object, Object)void.
+     */
+    public static MethodHandle nullSafe(MethodHandle setter, Class<?> type) {
+        MethodHandle orDefault = MethodHandles.insertArguments(OR_DEFAULT, 1, defaultValue(type));
+        MethodHandle filtered = MethodHandles.filterArguments(
+            setter.asType(setter.type().changeParameterType(1, Object.class)), 1, orDefault
+        );
+        return filtered.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    private static Object orDefault(Object value, Object defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,19 @@
+package net.tokensmith.parser.builder;
+
+import java.util.function.Function;
+
+
+/**
+ * A builder that can report invalid input without throwing. When a failure only needs to be
+ * collected, such as Parser.tryTo, tryApply is used so no exception is made.
+ */
+public interface TryBuilder extends Function<String, Object> {
+    // returned by tryApply when the input is invalid.
+    Object INVALID = new Object();
+
+    /**
+     * @param s the input
+     * @return the value, or INVALID if s is not valid input.
+     */
+    Object tryApply(String s);
+}
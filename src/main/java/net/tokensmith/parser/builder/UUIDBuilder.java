@@ -0,0 +1,65 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+
+/**
+ * Builds a UUID from its 36 character form, 8-4-4-4-12 hex digits in either case. The digits are
+ * decoded with a table straight into the two longs. Unlike UUID.fromString, shorter groups are
+ * not accepted.
+ */
+public class UUIDBuilder implements TryBuilder {
+    private static String INVALID_UUID = "Invalid UUID string: %s";
+    private static int[] HEX = new int[128];
+
+    static {
+        Arrays.fill(HEX, -1);
+        for(int i = 0; i < 10; i++) {
+            HEX['0' + i] = i;
+        }
+        for(int i = 0; i < 6; i++) {
+            HEX['a' + i] = 10 + i;
+            HEX['A' + i] = 10 + i;
+        }
+    }
+
+    @Override
+    public Object apply(String s) {
+        Object item = tryApply(s);
+        if (item == INVALID) {
+            throw new ConstructException("Unable to construct UUID", new IllegalArgumentException(String.format(INVALID_UUID, s)), s);
+        }
+        return item;
+    }
+
+    @Override
+    public Object tryApply(String s) {
+        if (s == null || s.length() != 36) {
+            return INVALID;
+        }
+        long msb = 0;
+        long lsb = 0;
+        // stays positive until a char is not a hex digit.
+        int check = 0;
+        for(int i = 0; i < 36; i++) {
+            char c = s.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return INVALID;
+                }
+                continue;
+            }
+            int digit = c < 128 ? HEX[c] : -1;
+            check |= digit;
+            if (i < 19) {
+                msb = msb << 4 | (digit & 0xF);
+            } else {
+                lsb = lsb << 4 | (digit & 0xF);
+            }
+        }
+        return check < 0 ? INVALID : new UUID(msb, lsb);
+    }
+}
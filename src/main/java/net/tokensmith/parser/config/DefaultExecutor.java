@@ -0,0 +1,42 @@
+package net.tokensmith.parser.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * The Executor Parser.toAsync uses when one is not given. A new virtual thread for each task when
+ * the runtime has them, otherwise the common fork join pool.
+ *
+ * The runtime is checked with reflection because this is compiled for a release without virtual threads.
+ */
+public class DefaultExecutor {
+    private static String EXECUTORS = "java.util.concurrent.Executors";
+    private static String VIRTUAL = "newVirtualThreadPerTaskExecutor";
+
+    public static Executor get() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * @return true if get returns a virtual thread per task executor.
+     */
+    public static boolean isVirtual() {
+        return Holder.EXECUTOR != ForkJoinPool.commonPool();
+    }
+
+    protected static Executor make() {
+        try {
+            Method method = Class.forName(EXECUTORS).getMethod(VIRTUAL);
+            return (Executor) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    // made the first time it is used.
+    private static class Holder {
+        static final Executor EXECUTOR = make();
+    }
+}
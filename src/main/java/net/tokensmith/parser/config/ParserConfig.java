@@ -1,60 +1,81 @@
 package net.tokensmith.parser.config;
 
 import net.tokensmith.parser.Parser;
+import net.tokensmith.parser.ParserUtils;
 import net.tokensmith.parser.ReflectParameter;
-import net.tokensmith.parser.builder.exception.ConstructException;
+import net.tokensmith.parser.builder.BuilderCompiler;
+import net.tokensmith.parser.builder.Converters;
+import net.tokensmith.parser.builder.UUIDBuilder;
 import net.tokensmith.parser.factory.nested.NestedTypeSetterFactory;
 import net.tokensmith.parser.factory.simple.TypeParserFactory;
 import net.tokensmith.parser.graph.GraphTranslator;
 import net.tokensmith.parser.validator.OptionalParam;
 import net.tokensmith.parser.validator.RequiredParam;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Function;
 
 public class ParserConfig {
 
     public Map<String, Function<String, Object>> builders() {
-        Map<String, Function<String, Object>> builders = new HashMap<>();
-        builders.put("java.util.UUID", s -> {
-            try{
-                return UUID.fromString(s);
-            } catch (Exception e) {
-                throw new ConstructException("Unable to construct UUID", e, s);
-            }
-        });
+        Map<String, Function<String, Object>> builders = Converters.builders();
+        builders.put("java.util.UUID", new UUIDBuilder());
         return builders;
     }
 
     public ReflectParameter reflectParameter(Map<String, Function<String, Object>> builders) {
-        return new ReflectParameter(builders);
+        return reflectParameter(builders, new TypeParserFactory(), new NestedTypeSetterFactory());
+    }
+
+    public ReflectParameter reflectParameter(Map<String, Function<String, Object>> builders, TypeParserFactory typeParserFactory, NestedTypeSetterFactory nestedTypeSetterFactory) {
+        return reflectParameter(builders, typeParserFactory, nestedTypeSetterFactory, new BuilderCompiler());
+    }
+
+    public ReflectParameter reflectParameter(Map<String, Function<String, Object>> builders, TypeParserFactory typeParserFactory, NestedTypeSetterFactory nestedTypeSetterFactory, BuilderCompiler builderCompiler) {
+        return new ReflectParameter(builders, builderCompiler, typeParserFactory, nestedTypeSetterFactory);
+    }
+
+    public ParserOptions options() {
+        return new ParserOptions.Builder().build();
     }
 
     public Parser parser() {
+        return parser(options());
+    }
+
+    public Parser parser(ParserOptions options) {
         Map<String, Function<String, Object>> builders = builders();
+        TypeParserFactory typeParserFactory = new TypeParserFactory(new ParserUtils(options.isStackless()));
+        NestedTypeSetterFactory nestedTypeSetterFactory = new NestedTypeSetterFactory();
         return new Parser(
-            reflectParameter(builders),
+            reflectParameter(builders, typeParserFactory, nestedTypeSetterFactory, new BuilderCompiler(options.isCaseInsensitiveEnums())),
             new GraphTranslator(),
-            new OptionalParam(),
-            new RequiredParam(),
-            new TypeParserFactory(),
-            new NestedTypeSetterFactory()
+            new OptionalParam(options.isStackless()),
+            new RequiredParam(options.isStackless()),
+            typeParserFactory,
+            nestedTypeSetterFactory,
+            options
         );
     }
 
     public Parser parser(Map<String, Function<String, Object>> builders) {
+        return parser(builders, options());
+    }
+
+    public Parser parser(Map<String, Function<String, Object>> builders, ParserOptions options) {
         Map<String, Function<String, Object>> defaultBuilders = builders();
         defaultBuilders.putAll(builders);
+        TypeParserFactory typeParserFactory = new TypeParserFactory(new ParserUtils(options.isStackless()));
+        NestedTypeSetterFactory nestedTypeSetterFactory = new NestedTypeSetterFactory();
 
         return new Parser(
-                reflectParameter(defaultBuilders),
+                reflectParameter(defaultBuilders, typeParserFactory, nestedTypeSetterFactory, new BuilderCompiler(options.isCaseInsensitiveEnums())),
                 new GraphTranslator(),
-                new OptionalParam(),
-                new RequiredParam(),
-                new TypeParserFactory(),
-                new NestedTypeSetterFactory()
+                new OptionalParam(options.isStackless()),
+                new RequiredParam(options.isStackless()),
+                typeParserFactory,
+                nestedTypeSetterFactory,
+                options
         );
     }
 }
@@ -0,0 +1,118 @@
+package net.tokensmith.parser.config;
+
+import java.util.concurrent.Executor;
+
+
+/**
+ * Settings for a Parser that are not part of what it is made from. Made with ParserOptions.Builder,
+ * new options are only added to it.
+ */
+public class ParserOptions {
+    private boolean compiled;
+    private boolean generated;
+    private boolean stackless;
+    private Executor executor;
+    private int poolSize;
+    private boolean caseInsensitiveEnums;
+
+    private ParserOptions(Builder builder) {
+        this.compiled = builder.compiled;
+        this.generated = builder.generated;
+        this.stackless = builder.stackless;
+        this.executor = builder.executor;
+        this.poolSize = builder.poolSize;
+        this.caseInsensitiveEnums = builder.caseInsensitiveEnums;
+    }
+
+    /**
+     * @return true if the Parser should use the binder compiled for each class,
+     * false if it should walk the reflected fields with the TypeParserFactory and NestedTypeSetterFactory.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * @return true if the Parser should use the binders generated at compile time by the parser
+     * annotation processor when they are found. Only used when compiled is true.
+     */
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    /**
+     * @return true if the exceptions thrown for invalid input should not have stack traces. Their
+     * messages are made when they are asked for. Invalid input is common, this makes rejecting it
+     * cost about the same as accepting it.
+     */
+    public boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * @return the Executor Parser.toAsync runs on when one is not given. If it was not set it is
+     * DefaultExecutor, virtual threads when the runtime has them.
+     */
+    public Executor getExecutor() {
+        return executor != null ? executor : DefaultExecutor.get();
+    }
+
+    /**
+     * @return the most instances of each class that are kept after they are given back with
+     * Parser.release, shared by all threads. Parser.to fills a kept instance instead of making a new
+     * one. 0 turns it off.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return true if enum constants should be matched to the input ignoring case.
+     */
+    public boolean isCaseInsensitiveEnums() {
+        return caseInsensitiveEnums;
+    }
+
+    public static class Builder {
+        private boolean compiled = true;
+        private boolean generated = true;
+        private boolean stackless = false;
+        private Executor executor;
+        private int poolSize = 0;
+        private boolean caseInsensitiveEnums = false;
+
+        public Builder compiled(boolean compiled) {
+            this.compiled = compiled;
+            return this;
+        }
+
+        public Builder generated(boolean generated) {
+            this.generated = generated;
+            return this;
+        }
+
+        public Builder stackless(boolean stackless) {
+            this.stackless = stackless;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder poolSize(int poolSize) {
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        public Builder caseInsensitiveEnums(boolean caseInsensitiveEnums) {
+            this.caseInsensitiveEnums = caseInsensitiveEnums;
+            return this;
+        }
+
+        public ParserOptions build() {
+            return new ParserOptions(this);
+        }
+    }
+}
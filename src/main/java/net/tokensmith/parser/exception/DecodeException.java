@@ -0,0 +1,17 @@
+package net.tokensmith.parser.exception;
+
+public class DecodeException extends Exception {
+    private int index;
+
+    public DecodeException(String message, int index) {
+        super(message);
+        this.index = index;
+    }
+
+    /**
+     * @return the index in the input where decoding failed.
+     */
+    public int getIndex() {
+        return index;
+    }
+}
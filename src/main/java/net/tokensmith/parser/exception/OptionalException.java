@@ -21,6 +21,21 @@ public class OptionalException extends Exception{
         this.target = target;
     }
 
+    /**
+     * @param message the message
+     * @param cause the cause
+     * @param field the field that failed
+     * @param param the param that failed
+     * @param target the object being translated to
+     * @param writableStackTrace if false the stack trace is not filled in, for input that is expected to fail often.
+     */
+    public OptionalException(String message, Throwable cause, String field, String param, Object target, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.field = field;
+        this.param = param;
+        this.target = target;
+    }
+
     public String getField() {
         return field;
     }
@@ -0,0 +1,17 @@
+package net.tokensmith.parser.exception;
+
+
+/**
+ * Carries a ParseException out of a Stream, such as the one returned by Parser.toAll.
+ */
+public class UncheckedParseException extends RuntimeException {
+
+    public UncheckedParseException(ParseException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized ParseException getCause() {
+        return (ParseException) super.getCause();
+    }
+}
@@ -13,6 +13,13 @@ public class ValueException extends Exception {
         this.value = value;
     }
 
+    public ValueException(String message, String field, String param, String value, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+        this.field = field;
+        this.param = param;
+        this.value = value;
+    }
+
     public String getField() {
         return field;
     }
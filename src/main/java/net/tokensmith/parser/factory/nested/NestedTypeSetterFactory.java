@@ -4,23 +4,33 @@ import net.tokensmith.parser.ParamEntity;
 import net.tokensmith.parser.graph.GraphNode;
 import net.tokensmith.parser.model.NodeData;
 
+/**
+ * The setters do not keep state, so each one is made once and shared.
+ */
 public class NestedTypeSetterFactory {
+    private NestedTypeSetter optionalTypeSetter = new OptionalTypeSetter();
+    private NestedTypeSetter optionalTypeEmptySetter = new OptionalTypeEmptySetter();
+    private NestedTypeSetter referenceTypeSetter = new ReferenceTypeSetter();
 
     public NestedTypeSetter make(ParamEntity paramEntity, GraphNode<NodeData> node) {
+        return make(paramEntity, node != null, node != null && node.hasChildren());
+    }
+
+    public NestedTypeSetter make(ParamEntity paramEntity, boolean present, boolean hasChildren) {
 
-        if (node != null) {
-            if (paramEntity.isParameterized() && paramEntity.isOptional() && node.hasChildren()) {
-                return new OptionalTypeSetter();
-            } else if (paramEntity.isParameterized() && paramEntity.isOptional() && !node.hasChildren()) {
-                return new OptionalTypeEmptySetter();
+        if (present) {
+            if (paramEntity.isParameterized() && paramEntity.isOptional() && hasChildren) {
+                return optionalTypeSetter;
+            } else if (paramEntity.isParameterized() && paramEntity.isOptional() && !hasChildren) {
+                return optionalTypeEmptySetter;
             } else {
-                return new ReferenceTypeSetter();
+                return referenceTypeSetter;
             }
         } else {
             if (paramEntity.isParameterized() && paramEntity.isOptional()) {
-                return new OptionalTypeEmptySetter();
+                return optionalTypeEmptySetter;
             } else{
-                return new ReferenceTypeSetter();
+                return referenceTypeSetter;
             }
         }
     }
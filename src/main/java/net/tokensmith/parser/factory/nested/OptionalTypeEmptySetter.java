@@ -11,8 +11,10 @@ public class OptionalTypeEmptySetter implements NestedTypeSetter {
     @Override
     public <T> void set(T to, ParamEntity toField, Object o) throws ParseException {
         try {
-            toField.getField().set(to, Optional.empty());
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) Optional.empty());
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -9,8 +9,10 @@ public class ReferenceTypeSetter implements NestedTypeSetter {
     @Override
     public <T> void set(T to, ParamEntity toField, Object o) throws ParseException {
         try {
-            toField.getField().set(to, o);
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) o);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -14,8 +14,10 @@ public class EmptyListParser implements TypeParser {
     public <T> void parse(T to, ParamEntity toField, List<String> from) throws ParseException{
         ArrayList<Object> arrayList = new ArrayList<>();
         try {
-            toField.getField().set(to, arrayList);
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) arrayList);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
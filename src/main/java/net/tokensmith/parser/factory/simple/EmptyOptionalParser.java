@@ -12,8 +12,10 @@ public class EmptyOptionalParser implements TypeParser {
     @Override
     public <T> void parse(T to, ParamEntity toField, List<String> from) throws ParseException {
         try {
-            toField.getField().set(to, Optional.empty());
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) Optional.empty());
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -1,11 +1,12 @@
 package net.tokensmith.parser.factory.simple;
 
+import net.tokensmith.parser.FieldRules;
 import net.tokensmith.parser.ParamEntity;
 import net.tokensmith.parser.ParserUtils;
 import net.tokensmith.parser.exception.OptionalException;
 import net.tokensmith.parser.exception.ParseException;
 import net.tokensmith.parser.exception.RequiredException;
-import net.tokensmith.parser.exception.ValueException;
+import net.tokensmith.parser.validator.FieldValidator;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -14,11 +15,12 @@ import java.util.stream.Collectors;
 
 public class ListParser implements TypeParser {
     private static String FIELD_ERROR = "Could not set field value";
-    private String UNSUPPORTED_ERROR = "input value is not supported";
     private ParserUtils parserUtils;
+    private FieldValidator fieldValidator;
 
     public ListParser(ParserUtils parserUtils) {
         this.parserUtils = parserUtils;
+        this.fieldValidator = new FieldValidator(parserUtils);
     }
 
     @Override
@@ -32,27 +34,21 @@ public class ListParser implements TypeParser {
             fromParsed = from;
         }
 
-        Boolean inputOk = parserUtils.isExpected(fromParsed, toField.getParameter().expected());
-
-        if(!inputOk) {
-            ValueException ve = new ValueException(UNSUPPORTED_ERROR, toField.getField().getName(), toField.getParameter().name(), from.get(0));
-            throw new RequiredException(UNSUPPORTED_ERROR, ve, toField.getField().getName(), toField.getParameter().name(), to);
+        FieldRules rules = toField.getPlan().getRules();
+        if(!fieldValidator.isExpected(rules, fromParsed)) {
+            fieldValidator.unsupported(rules, from.get(0), to, null);
         }
 
         ArrayList<Object> arrayList = new ArrayList<>();
         for (String parsedValue : fromParsed) {
-            Object item = null;
-            try {
-                item = toField.getBuilder().apply(parsedValue);
-            } catch (Exception e) {
-                parserUtils.handleConstructorException(e, toField, to);
-            }
-            arrayList.add(item);
+            arrayList.add(fieldValidator.build(rules, parsedValue, to, null));
         }
 
         try {
-            toField.getField().set(to, arrayList);
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) arrayList);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -13,8 +13,10 @@ public class ReferenceTypeNullParser implements TypeParser {
     @Override
     public <T> void parse(T to, ParamEntity toField, List<String> from) throws ParseException, RequiredException, OptionalException {
         try {
-            toField.getField().set(to, null);
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) null);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -5,38 +5,27 @@ import net.tokensmith.parser.ParserUtils;
 import net.tokensmith.parser.exception.OptionalException;
 import net.tokensmith.parser.exception.ParseException;
 import net.tokensmith.parser.exception.RequiredException;
-import net.tokensmith.parser.exception.ValueException;
+import net.tokensmith.parser.validator.FieldValidator;
 
 import java.util.List;
 
 public class ReferenceTypeParser implements TypeParser {
     private static String FIELD_ERROR = "Could not set field value";
-    private String UNSUPPORTED_ERROR = "input value is not supported";
-    private ParserUtils parserUtils;
+    private FieldValidator fieldValidator;
 
     public ReferenceTypeParser(ParserUtils parserUtils) {
-        this.parserUtils = parserUtils;
+        this.fieldValidator = new FieldValidator(parserUtils);
     }
 
     @Override
     public <T> void parse(T to, ParamEntity toField, List<String> from) throws ParseException, RequiredException, OptionalException {
-        Boolean inputOk = parserUtils.isExpected(from.get(0), toField.getParameter().expected());
-
-        if(!inputOk) {
-            ValueException ve = new ValueException(UNSUPPORTED_ERROR, toField.getField().getName(), toField.getParameter().name(), from.get(0));
-            throw new RequiredException(UNSUPPORTED_ERROR, ve, toField.getField().getName(), toField.getParameter().name(), to);
-        }
-
-        Object item = null;
-        try {
-            item = toField.getBuilder().apply(from.get(0));
-        } catch (Exception e) {
-            parserUtils.handleConstructorException(e, toField, to);
-        }
+        Object item = fieldValidator.value(toField.getPlan().getRules(), from.get(0), to, null);
 
         try {
-            toField.getField().set(to, item);
-        } catch (IllegalAccessException e) {
+            toField.getSetter().invokeExact((Object) to, (Object) item);
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
             throw new ParseException(FIELD_ERROR, e);
         }
     }
@@ -3,21 +3,44 @@ package net.tokensmith.parser.factory.simple;
 import net.tokensmith.parser.ParamEntity;
 import net.tokensmith.parser.ParserUtils;
 
+/**
+ * The parsers do not keep state, so each one is made once and shared.
+ */
 public class TypeParserFactory {
+    private TypeParser emptyListParser;
+    private TypeParser emptyOptionalParser;
+    private TypeParser listParser;
+    private TypeParser optionalParser;
+    private TypeParser referenceTypeParser;
+    private TypeParser referenceTypeNullParser;
+
+    public TypeParserFactory() {
+        this(new ParserUtils());
+    }
+
+    public TypeParserFactory(ParserUtils parserUtils) {
+        this.emptyListParser = new EmptyListParser();
+        this.emptyOptionalParser = new EmptyOptionalParser();
+        this.listParser = new ListParser(parserUtils);
+        this.optionalParser = new OptionalParser(parserUtils);
+        this.referenceTypeParser = new ReferenceTypeParser(parserUtils);
+        this.referenceTypeNullParser = new ReferenceTypeNullParser();
+    }
 
     public TypeParser make(ParamEntity toField, Boolean inputEmpty, Boolean required) {
         if(toField.isParameterized() && inputEmpty && toField.isList()) {
-            return new EmptyListParser();
+            return emptyListParser;
         } else if (toField.isParameterized() && inputEmpty && toField.isOptional()) {
-            return new EmptyOptionalParser();
+            return emptyOptionalParser;
         } else if (toField.isParameterized() && !inputEmpty && toField.isList()) {
-            return new ListParser(new ParserUtils());
+            return listParser;
         } else if (toField.isParameterized() && !inputEmpty && toField.isOptional()) {
-            return new OptionalParser(new ParserUtils());
-        } else if (!inputEmpty && required) {
-            return new ReferenceTypeParser(new ParserUtils());
+            return optionalParser;
+        } else if (!inputEmpty) {
+            // optional or not, present input is assigned like the binder steps do.
+            return referenceTypeParser;
         } else {
-            return new ReferenceTypeNullParser();
+            return referenceTypeNullParser;
         }
     }
 }
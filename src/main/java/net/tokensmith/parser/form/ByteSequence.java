@@ -0,0 +1,69 @@
+package net.tokensmith.parser.form;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * A range of ASCII bytes seen as characters, so it can be matched against keys without making a
+ * String. It is reset to a new range instead of being made again.
+ */
+public class ByteSequence implements CharSequence {
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    public ByteSequence(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public ByteSequence reset(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * @return true if every byte in the range is ASCII.
+     */
+    public boolean isAscii() {
+        for(int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return string(offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return string(offset, length);
+    }
+
+    protected String string(int start, int count) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, count, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[count];
+        for(int i = 0; i < count; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
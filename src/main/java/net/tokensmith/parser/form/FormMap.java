@@ -0,0 +1,65 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A FormSink that keeps every pair, in the form Parser.to accepts. Used when the target class can
+ * not be bound while scanning.
+ *
+ * Once it has maxKeys keys, the values of keys it does not have yet are skipped.
+ */
+public class FormMap implements FormSink {
+    public static int MAX_KEYS = 1000;
+
+    private PercentDecoder decoder;
+    private int maxKeys;
+    private Map<String, List<String>> from = new LinkedHashMap<>();
+    private Map<String, Integer> slots = new HashMap<>();
+    private List<List<String>> values = new ArrayList<>();
+
+    public FormMap(PercentDecoder decoder) {
+        this(decoder, MAX_KEYS);
+    }
+
+    /**
+     * @param decoder decodes keys
+     * @param maxKeys the most distinct keys kept, the values of later keys are skipped.
+     */
+    public FormMap(PercentDecoder decoder, int maxKeys) {
+        this.decoder = decoder;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public int key(CharSequence source, int start, int end) throws DecodeException {
+        String key = decoder.decode(source, start, end);
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            if (values.size() == maxKeys) {
+                return -1;
+            }
+            slot = values.size();
+            List<String> keyValues = new ArrayList<>();
+            from.put(key, keyValues);
+            values.add(keyValues);
+            slots.put(key, slot);
+        }
+        return slot;
+    }
+
+    @Override
+    public void value(int slot, String value) {
+        values.get(slot).add(value);
+    }
+
+    public Map<String, List<String>> getFrom() {
+        return from;
+    }
+}
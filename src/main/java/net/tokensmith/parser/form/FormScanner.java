@@ -0,0 +1,98 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Scans application/x-www-form-urlencoded input, a=b&amp;c=d, once from start to end. A key without
+ * a = has an empty value and empty pairs are skipped.
+ */
+public class FormScanner {
+    private PercentDecoder decoder;
+
+    public FormScanner(PercentDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * @param query the query string, it may start with a ?
+     * @param sink receives the pairs
+     * @throws DecodeException if a key or value has an invalid percent escape.
+     */
+    public void scan(CharSequence query, FormSink sink) throws DecodeException {
+        int length = query.length();
+        int start = (length > 0 && query.charAt(0) == '?') ? 1 : 0;
+
+        while (start < length) {
+            int end = indexOf(query, '&', start, length);
+            if (end > start) {
+                int separator = indexOf(query, '=', start, end);
+                int slot = sink.key(query, start, separator);
+                if (slot >= 0) {
+                    String value = separator < end ? decoder.decode(query, separator + 1, end) : "";
+                    sink.value(slot, value);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Scans the bytes of a form in place, from the position to the limit of body. Keys are matched as
+     * bytes, Strings are only made for the values the sink wants.
+     *
+     * @param body the form, its position and limit are not changed.
+     * @param sink receives the pairs
+     * @throws DecodeException if a key or value has an invalid percent escape.
+     */
+    public void scan(ByteBuffer body, FormSink sink) throws DecodeException {
+        ByteSequence key = new ByteSequence(body);
+        int start = body.position();
+        int length = body.limit();
+
+        while (start < length) {
+            int end = indexOf(body, (byte) '&', start, length);
+            if (end > start) {
+                int separator = indexOf(body, (byte) '=', start, end);
+                int slot = key(key.reset(body, start, separator - start), sink);
+                if (slot >= 0) {
+                    String value = separator < end ? decoder.decode(body, separator + 1, end) : "";
+                    sink.value(slot, value);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    protected int key(ByteSequence key, FormSink sink) throws DecodeException {
+        if (key.isAscii()) {
+            return sink.key(key, 0, key.length());
+        }
+        String decoded = key.toString();
+        return sink.key(decoded, 0, decoded.length());
+    }
+
+    protected int indexOf(ByteBuffer source, byte b, int start, int end) {
+        for(int i = start; i < end; i++) {
+            if (source.get(i) == b) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    protected int indexOf(CharSequence source, char c, int start, int end) {
+        for(int i = start; i < end; i++) {
+            if (source.charAt(i) == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    public PercentDecoder getDecoder() {
+        return decoder;
+    }
+}
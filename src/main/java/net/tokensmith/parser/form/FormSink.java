@@ -0,0 +1,26 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+
+/**
+ * Receives the key value pairs of a form as they are scanned. The sink decides if it wants a value
+ * before the value is decoded, so values of keys it does not want are never made into Strings.
+ */
+public interface FormSink {
+    /**
+     * @param source the input
+     * @param start the index of the first character of the encoded key
+     * @param end the index after the last character of the encoded key
+     * @return the slot to pass to value, -1 if the value of the key is not wanted. Each key has its
+     * own slot, FormStreamScanner counts the values of a key by it.
+     * @throws DecodeException if the key could not be decoded.
+     */
+    int key(CharSequence source, int start, int end) throws DecodeException;
+
+    /**
+     * @param slot what key returned
+     * @param value the decoded value
+     */
+    void value(int slot, String value);
+}
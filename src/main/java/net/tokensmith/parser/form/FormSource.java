@@ -0,0 +1,13 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+import java.io.IOException;
+
+
+/**
+ * Input that can be scanned into a FormSink, such as a query string or a body.
+ */
+public interface FormSource {
+    void scan(FormSink sink) throws IOException, DecodeException;
+}
@@ -0,0 +1,192 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+
+/**
+ * Scans an application/x-www-form-urlencoded body, a=b&amp;c=d, as it is read through a fixed size
+ * buffer. Only the key being scanned and the values a FormSink wants are kept, so memory does not
+ * grow with the size of the body.
+ *
+ * Keys longer than maxKeyLength are skipped with their value, as are values longer than
+ * maxValueLength. Once a key has had maxValues values, its later values are skipped.
+ */
+public class FormStreamScanner {
+    public static int BUFFER_SIZE = 1024;
+    public static int MAX_KEY_LENGTH = 1024;
+    public static int MAX_VALUE_LENGTH = 65536;
+    public static int MAX_VALUES = 100;
+
+    private PercentDecoder decoder;
+    private FormScanner formScanner;
+    private int bufferSize;
+    private int maxKeyLength;
+    private int maxValueLength;
+    private int maxValues;
+
+    public FormStreamScanner(PercentDecoder decoder) {
+        this(decoder, BUFFER_SIZE, MAX_KEY_LENGTH);
+    }
+
+    public FormStreamScanner(PercentDecoder decoder, int bufferSize, int maxKeyLength) {
+        this(decoder, bufferSize, maxKeyLength, MAX_VALUE_LENGTH, MAX_VALUES);
+    }
+
+    /**
+     * @param decoder decodes keys and values
+     * @param bufferSize the size of the buffer the body is read through
+     * @param maxKeyLength the most bytes of an encoded key, longer keys are skipped with their value.
+     * @param maxValueLength the most bytes of an encoded value, longer values are skipped.
+     * @param maxValues the most values kept for one key, later ones are skipped.
+     */
+    public FormStreamScanner(PercentDecoder decoder, int bufferSize, int maxKeyLength, int maxValueLength, int maxValues) {
+        this.decoder = decoder;
+        this.formScanner = new FormScanner(decoder);
+        this.bufferSize = bufferSize;
+        this.maxKeyLength = maxKeyLength;
+        this.maxValueLength = maxValueLength;
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * @param in the body, it is read to the end and not closed.
+     * @param sink receives the pairs
+     * @throws IOException if in could not be read
+     * @throws DecodeException if a key or value has an invalid percent escape.
+     */
+    public void scan(InputStream in, FormSink sink) throws IOException, DecodeException {
+        byte[] buffer = new byte[bufferSize];
+        Scan scan = new Scan(sink);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            scan.feed(buffer, read);
+        }
+        scan.finish();
+    }
+
+    /**
+     * @param in the body, it is read to the end and not closed.
+     * @param sink receives the pairs
+     * @throws IOException if in could not be read
+     * @throws DecodeException if a key or value has an invalid percent escape.
+     */
+    public void scan(ReadableByteChannel in, FormSink sink) throws IOException, DecodeException {
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        Scan scan = new Scan(sink);
+        while (in.read(buffer) != -1) {
+            scan.feed(buffer.array(), buffer.position());
+            buffer.clear();
+        }
+        scan.finish();
+    }
+
+    /**
+     * The state of one body between reads.
+     */
+    protected class Scan {
+        private FormSink sink;
+        private byte[] key = new byte[64];
+        private ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+        private int keyLength;
+        private boolean keyTooLong;
+        private boolean inValue;
+        private int slot = -1;
+        private byte[] value = new byte[64];
+        private ByteBuffer valueBuffer = ByteBuffer.wrap(value);
+        private int valueLength;
+        private boolean valueTooLong;
+        // the number of values kept for each slot.
+        private int[] counts = new int[8];
+        private ByteSequence keySequence = new ByteSequence(keyBuffer);
+
+        public Scan(FormSink sink) {
+            this.sink = sink;
+        }
+
+        public void feed(byte[] buffer, int length) throws DecodeException {
+            for(int i = 0; i < length; i++) {
+                byte b = buffer[i];
+                if (b == '&') {
+                    endPair();
+                } else if (inValue) {
+                    if (slot >= 0) {
+                        appendValue(b);
+                    }
+                } else if (b == '=') {
+                    slot = endKey();
+                    inValue = true;
+                } else {
+                    appendKey(b);
+                }
+            }
+        }
+
+        public void finish() throws DecodeException {
+            endPair();
+        }
+
+        protected void endPair() throws DecodeException {
+            if (!inValue && (keyLength > 0 || keyTooLong)) {
+                slot = endKey();
+                inValue = true;
+            }
+            if (inValue && slot >= 0 && !valueTooLong) {
+                sink.value(slot, decoder.decode(valueBuffer, 0, valueLength));
+            }
+            keyLength = 0;
+            keyTooLong = false;
+            inValue = false;
+            slot = -1;
+            valueLength = 0;
+            valueTooLong = false;
+        }
+
+        protected int endKey() throws DecodeException {
+            if (keyTooLong) {
+                return -1;
+            }
+            int keySlot = formScanner.key(keySequence.reset(keyBuffer, 0, keyLength), sink);
+            if (keySlot < 0) {
+                return keySlot;
+            }
+            if (keySlot >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(keySlot + 1, counts.length * 2));
+            }
+            if (counts[keySlot] == maxValues) {
+                return -1;
+            }
+            counts[keySlot]++;
+            return keySlot;
+        }
+
+        protected void appendKey(byte b) {
+            if (keyLength == maxKeyLength) {
+                keyTooLong = true;
+                return;
+            }
+            if (keyLength == key.length) {
+                key = Arrays.copyOf(key, Math.min(key.length * 2, maxKeyLength));
+                keyBuffer = ByteBuffer.wrap(key);
+            }
+            key[keyLength++] = b;
+        }
+
+        protected void appendValue(byte b) {
+            if (valueLength == maxValueLength) {
+                valueTooLong = true;
+                return;
+            }
+            if (valueLength == value.length) {
+                value = Arrays.copyOf(value, Math.min(value.length * 2, maxValueLength));
+                valueBuffer = ByteBuffer.wrap(value);
+            }
+            value[valueLength++] = b;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Decodes application/x-www-form-urlencoded keys and values, a + is a space and %XX is a byte of
+ * UTF-8. Input without either is not copied to a buffer, it is made into a String directly.
+ */
+public class PercentDecoder {
+    private static String ESCAPE_ERROR = "Invalid percent escape at index %s";
+
+    /**
+     * @param source the input
+     * @param start the index of the first character to decode
+     * @param end the index after the last character to decode
+     * @return the decoded characters from start to end
+     * @throws DecodeException if there is a % that is not followed by two hex digits.
+     */
+    public String decode(CharSequence source, int start, int end) throws DecodeException {
+        if (!encoded(source, start, end)) {
+            return source.subSequence(start, end).toString();
+        }
+
+        // a char is at most 3 bytes of UTF-8, a surrogate pair is 4 bytes for 2 chars.
+        byte[] out = new byte[(end - start) * 3];
+        int length = 0;
+        for(int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '+') {
+                out[length++] = ' ';
+            } else if (c == '%') {
+                out[length++] = escaped(source, i, end);
+                i += 2;
+            } else if (c < 0x80) {
+                out[length++] = (byte) c;
+            } else if (c < 0x800) {
+                out[length++] = (byte) (0xC0 | (c >> 6));
+                out[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(source.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, source.charAt(++i));
+                out[length++] = (byte) (0xF0 | (codePoint >> 18));
+                out[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                out[length++] = (byte) (0xE0 | (c >> 12));
+                out[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param source the input, it is read with absolute gets so its position is not changed.
+     * @param start the index of the first byte to decode
+     * @param end the index after the last byte to decode
+     * @return the decoded bytes from start to end as UTF-8
+     * @throws DecodeException if there is a % that is not followed by two hex digits.
+     */
+    public String decode(ByteBuffer source, int start, int end) throws DecodeException {
+        if (source.hasArray() && !encoded(source, start, end)) {
+            return new String(source.array(), source.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+
+        byte[] out = new byte[end - start];
+        int length = 0;
+        for(int i = start; i < end; i++) {
+            byte b = source.get(i);
+            if (b == '+') {
+                out[length++] = ' ';
+            } else if (b == '%') {
+                out[length++] = escaped(source, i, end);
+                i += 2;
+            } else {
+                out[length++] = b;
+            }
+        }
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param source the input
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return true if there is a + or % from start to end.
+     */
+    public boolean encoded(CharSequence source, int start, int end) {
+        for(int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean encoded(ByteBuffer source, int start, int end) {
+        for(int i = start; i < end; i++) {
+            byte b = source.get(i);
+            if (b == '%' || b == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected byte escaped(ByteBuffer source, int i, int end) throws DecodeException {
+        if (i + 2 >= end) {
+            throw new DecodeException(String.format(ESCAPE_ERROR, i), i);
+        }
+        int high = Character.digit(source.get(i + 1), 16);
+        int low = Character.digit(source.get(i + 2), 16);
+        if (high < 0 || low < 0) {
+            throw new DecodeException(String.format(ESCAPE_ERROR, i), i);
+        }
+        return (byte) ((high << 4) | low);
+    }
+
+    protected byte escaped(CharSequence source, int i, int end) throws DecodeException {
+        if (i + 2 >= end) {
+            throw new DecodeException(String.format(ESCAPE_ERROR, i), i);
+        }
+        int high = Character.digit(source.charAt(i + 1), 16);
+        int low = Character.digit(source.charAt(i + 2), 16);
+        if (high < 0 || low < 0) {
+            throw new DecodeException(String.format(ESCAPE_ERROR, i), i);
+        }
+        return (byte) ((high << 4) | low);
+    }
+}
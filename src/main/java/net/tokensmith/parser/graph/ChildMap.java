@@ -0,0 +1,127 @@
+package net.tokensmith.parser.graph;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * The children of a GraphNode. Most nodes have a few children so they are kept in small arrays
+ * that are scanned, once there are more than INLINE of them they are moved to a LinkedHashMap.
+ * Either way the insertion order is kept.
+ */
+class ChildMap<T> extends AbstractMap<String, GraphNode<T>> {
+    private static final int INLINE = 8;
+
+    private String[] keys = new String[2];
+    private Object[] nodes = new Object[2];
+    private int size;
+    private LinkedHashMap<String, GraphNode<T>> map;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GraphNode<T> get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : (GraphNode<T>) nodes[i];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (map != null) {
+            return map.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GraphNode<T> put(String key, GraphNode<T> value) {
+        if (map != null) {
+            return map.put(key, value);
+        }
+
+        int i = indexOf(key);
+        if (i >= 0) {
+            GraphNode<T> previous = (GraphNode<T>) nodes[i];
+            nodes[i] = value;
+            return previous;
+        }
+
+        if (size == INLINE) {
+            map = new LinkedHashMap<>();
+            for(int j = 0; j < size; j++) {
+                map.put(keys[j], (GraphNode<T>) nodes[j]);
+            }
+            keys = null;
+            nodes = null;
+            return map.put(key, value);
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.min(size * 2, INLINE));
+            nodes = Arrays.copyOf(nodes, keys.length);
+        }
+        keys[size] = key;
+        nodes[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return map != null ? map.size() : size;
+    }
+
+    @Override
+    public Set<Entry<String, GraphNode<T>>> entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, GraphNode<T>>> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<String, GraphNode<T>> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, GraphNode<T>> entry = new SimpleImmutableEntry<>(keys[next], (GraphNode<T>) nodes[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    protected int indexOf(Object key) {
+        for(int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
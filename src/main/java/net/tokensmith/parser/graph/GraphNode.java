@@ -1,16 +1,31 @@
 package net.tokensmith.parser.graph;
 
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.ListIterator;
+import java.util.Map;
 
 
+/**
+ * A node of the graph made by GraphTranslator. Leaves do not have a map for children until one
+ * is added to them, and the nodes GraphTranslator makes keep them in a compact map.
+ *
+ * getChildren returns a LinkedHashMap. The first time it is called on a node with a compact map
+ * its children are moved to one, so translating should read them with getChildMap instead.
+ */
 public class GraphNode<T> {
 
     private String id;
     private T data;
     private GraphNode<T> parent;
-    private LinkedHashMap<String, GraphNode<T>> children;
+    // a ChildMap, or a LinkedHashMap once it is given by or to the caller.
+    private Map<String, GraphNode<T>> children;
+
+    public GraphNode(T data, String id) {
+        this.id = id;
+        this.data = data;
+    }
 
     public GraphNode(T data, String id, GraphNode<T> parent, LinkedHashMap<String, GraphNode<T>> children) {
         this.id = id;
@@ -28,38 +43,82 @@ public class GraphNode<T> {
     }
 
     public void addChild(String key, GraphNode<T> child) {
+        if (children == null) {
+            children = new ChildMap<>();
+        }
         this.children.put(key, child);
     }
 
     public GraphNode<T> getChild(String key) {
-        return children.get(key);
+        return children == null ? null : children.get(key);
     }
 
+    /**
+     * @return the children, changes to it change this node.
+     */
     public LinkedHashMap<String, GraphNode<T>> getChildren() {
+        if (!(children instanceof LinkedHashMap)) {
+            children = children == null ? new LinkedHashMap<>() : new LinkedHashMap<>(children);
+        }
+        return (LinkedHashMap<String, GraphNode<T>>) children;
+    }
+
+    /**
+     * @return the children in insertion order without moving them to a LinkedHashMap.
+     */
+    public Map<String, GraphNode<T>> getChildMap() {
+        if (children == null) {
+            return Collections.emptyMap();
+        }
         return children;
     }
 
     public Boolean hasChildren() {
-        return this.getChildren().size() > 0;
+        return children != null && children.size() > 0;
+    }
+
+    /**
+     * Inserts data at the end of the dotted path in key from start to end. Missing nodes are added
+     * on the way, a node that is already there keeps its data.
+     *
+     * @param key the dotted path
+     * @param start the index of the first key to insert below this node
+     * @param end the index after the last key
+     * @param data the data of the last node
+     * @return the last node
+     */
+    public GraphNode<T> insert(String key, int start, int end, T data) {
+        GraphNode<T> node = this;
+        int from = start;
+        int dot = key.indexOf('.', from);
+        while (dot >= 0 && dot < end) {
+            // has more keys to iterate until termination.
+            node = node.child(key.substring(from, dot), null);
+            from = dot + 1;
+            dot = key.indexOf('.', from);
+        }
+        // terminates here.
+        return node.child(key.substring(from, end), data);
     }
 
     public GraphNode<T> insert(ListIterator<String> keys, T data) {
-        if(keys.hasNext()) {
+        GraphNode<T> node = this;
+        while (keys.hasNext()) {
             String key = keys.next();
-            GraphNode<T> child = getChild(key);
-            if (child == null && keys.hasNext()) {
-                // has more keys to iterate until termination.
-                child = new GraphNode<T>(null, key, this, new LinkedHashMap<>());
-                this.addChild(key, child);
-            } else if (child == null) {
-                // terminates here.
-                child = new GraphNode<T>(data, key, this, new LinkedHashMap<>());
-                this.addChild(key, child);
-            }
-            keys.nextIndex();
-            return child.insert(keys, data);
+            // only the last key has the data.
+            node = node.child(key, keys.hasNext() ? null : data);
+        }
+        return node;
+    }
+
+    protected GraphNode<T> child(String key, T data) {
+        GraphNode<T> child = getChild(key);
+        if (child == null) {
+            child = new GraphNode<T>(data, key);
+            child.parent = this;
+            addChild(key, child);
         }
-        return this;
+        return child;
     }
 
     @Override
@@ -6,49 +6,77 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 
+/**
+ * Translates input with dotted keys, such as nested.string, to a graph.
+ *
+ * Keys are scanned for dots by index instead of being split, so the only strings made are the ids
+ * of the nodes. Trailing dots are ignored unless the key has no other dot, then the key is used as is.
+ */
 public class GraphTranslator {
-    private static Pattern NESTED_PATTERN = Pattern.compile("\\.");
 
     public Map<String, GraphNode<NodeData>> to(Map<String, List<String>> from) {
 
-        Map<String, GraphNode<NodeData>> to = new HashMap<>();
+        Map<String, GraphNode<NodeData>> to = new HashMap<>(capacity(from.size()));
 
         for(Map.Entry<String, List<String>> entry: from.entrySet()) {
-            List<String> parsedKeys = matches(entry.getKey());
+            String key = entry.getKey();
+            int end = end(key);
+            int dot = key.indexOf('.');
 
-            if (parsedKeys.size() > 1) {
+            if (dot >= 0 && dot < end) {
                 // add with traversal
-                GraphNode<NodeData> rootNode = to.get(parsedKeys.get(0));
-                String dataKey = parsedKeys.get(parsedKeys.size()-1);
+                String rootKey = key.substring(0, dot);
+                GraphNode<NodeData> rootNode = to.get(rootKey);
+                String dataKey = key.substring(key.lastIndexOf('.', end - 1) + 1, end);
                 NodeData item = new NodeData(dataKey, entry.getValue());
 
                 if (rootNode == null ) {
                     // add with traversal with no root.
-                    rootNode = new GraphNode.Builder<NodeData>()
-                        .id(parsedKeys.get(0))
-                        .build();
-                    to.put(parsedKeys.get(0), rootNode);
+                    rootNode = new GraphNode<>(null, rootKey);
+                    to.put(rootKey, rootNode);
                 }
-                rootNode.insert(parsedKeys.listIterator(1), item);
+                rootNode.insert(key, dot + 1, end, item);
             } else {
                 // this as root.
-                NodeData item = new NodeData(entry.getKey(), entry.getValue());
-                GraphNode<NodeData> node = new GraphNode.Builder<NodeData>()
-                        .id(entry.getKey())
-                        .data(item)
-                        .build();
-
-                to.put(entry.getKey(), node);
+                NodeData item = new NodeData(key, entry.getValue());
+                to.put(key, new GraphNode<>(item, key));
             }
         }
         return to;
     }
 
     protected List<String> matches(String input) {
-        return NESTED_PATTERN.splitAsStream(input).collect(Collectors.toList());
+        List<String> keys = new ArrayList<>();
+        int end = end(input);
+        int from = 0;
+        int dot = input.indexOf('.');
+        if (dot < 0 || dot >= end) {
+            if (end > 0 || input.isEmpty()) {
+                keys.add(input.substring(0, end));
+            }
+            return keys;
+        }
+        while (dot >= 0 && dot < end) {
+            keys.add(input.substring(from, dot));
+            from = dot + 1;
+            dot = input.indexOf('.', from);
+        }
+        keys.add(input.substring(from, end));
+        return keys;
+    }
+
+    // the index after the last character that is not a trailing dot.
+    protected int end(String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end;
+    }
+
+    protected int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
     }
 }
@@ -0,0 +1,15 @@
+package net.tokensmith.parser.validator;
+
+
+/**
+ * Why the input for a field is invalid, one for each error in validator.exception and for values
+ * that are not expected or could not be converted.
+ */
+public enum ErrorCode {
+    PARAM_IS_NULL,
+    NO_ITEMS,
+    EMPTY_VALUE,
+    MORE_THAN_ONE_ITEM,
+    UNSUPPORTED_VALUE,
+    INVALID_VALUE
+}
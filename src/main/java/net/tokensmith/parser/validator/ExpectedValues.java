@@ -0,0 +1,223 @@
+package net.tokensmith.parser.validator;
+
+import net.tokensmith.parser.LazyURI;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+
+/**
+ * The expected values of a field, compiled once into an open addressed hash table whose keys are
+ * the values lower cased. Input is folded to lower case one char at a time while it is hashed and
+ * compared, so a lookup does not allocate.
+ *
+ * Only ascii is folded that way. When an expected value or the input has another char, they are
+ * compared the way ParserUtils.isExpected(String, String[]) does, with toLowerCase.
+ *
+ * When given the builder of the field, each value that builds to an immutable object is built once.
+ * Input that is exactly that value is given the same instance, so it is not built again and
+ * downstream code may compare it by identity.
+ */
+public class ExpectedValues {
+    // classes whose instances can be shared, enums and charsets are too.
+    private static Set<Class<?>> IMMUTABLE = Set.of(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class, LazyURI.class,
+        Locale.class, Duration.class, Instant.class, LocalDate.class, LocalDateTime.class, OffsetDateTime.class
+    );
+    public static final ExpectedValues NONE = new ExpectedValues(new String[0]);
+
+    private String[] values;
+    // values lower cased, for input that is not ascii.
+    private String[] lowered;
+    private boolean ascii = true;
+    private String[] keys;
+    // the index in values of each key.
+    private int[] indexes;
+    private int mask;
+    // the shared instance of each value, null if there is not one.
+    private Object[] canonical;
+
+    public ExpectedValues(String[] values) {
+        this(values, null);
+    }
+
+    /**
+     * @param values the expected values of a field
+     * @param builder the builder of the field, makes the canonical instances. May be null.
+     */
+    public ExpectedValues(String[] values, Function<String, Object> builder) {
+        this.values = values;
+        this.canonical = new Object[values.length];
+        for(int i = 0; builder != null && i < values.length; i++) {
+            canonical[i] = canonical(builder, values[i]);
+        }
+        this.lowered = new String[values.length];
+        for(int i = 0; i < values.length; i++) {
+            lowered[i] = values[i].toLowerCase();
+            ascii &= isAscii(values[i]);
+        }
+
+        int size = 2;
+        while (size < values.length * 2) {
+            size <<= 1;
+        }
+        keys = new String[size];
+        indexes = new int[size];
+        mask = size - 1;
+        if (ascii) {
+            for(int i = 0; i < values.length; i++) {
+                String key = values[i].toLowerCase(Locale.ROOT);
+                int slot = hash(key) & mask;
+                while (keys[slot] != null && !keys[slot].equals(key)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (keys[slot] == null) {
+                    keys[slot] = key;
+                    indexes[slot] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param values the expected values of a field
+     * @return the compiled values, NONE when there are none.
+     */
+    public static ExpectedValues of(String[] values) {
+        return of(values, null);
+    }
+
+    /**
+     * @param values the expected values of a field
+     * @param builder the builder of the field
+     * @return the compiled values with their canonical instances, NONE when there are none.
+     */
+    public static ExpectedValues of(String[] values, Function<String, Object> builder) {
+        return values.length == 0 ? NONE : new ExpectedValues(values, builder);
+    }
+
+    protected static Object canonical(Function<String, Object> builder, String value) {
+        Object item;
+        try {
+            item = builder.apply(value);
+        } catch (RuntimeException e) {
+            // it fails the same way when it is input.
+            return null;
+        }
+        if (item == null) {
+            return null;
+        }
+        boolean immutable = IMMUTABLE.contains(item.getClass()) || item instanceof Enum || item instanceof Charset;
+        return immutable ? item : null;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * @param item the input
+     * @return true if there are no expected values or item is one of them, ignoring case.
+     */
+    public boolean matches(String item) {
+        return values.length == 0 || indexOf(item) >= 0;
+    }
+
+    /**
+     * @param item the input
+     * @return the index of the expected value that item is, ignoring case. -1 if it is none of them.
+     */
+    public int indexOf(String item) {
+        if (!ascii) {
+            return scan(item);
+        }
+        int length = item.length();
+        int h = 0;
+        for(int i = 0; i < length; i++) {
+            char c = item.charAt(i);
+            if (c >= 128) {
+                return scan(item);
+            }
+            h = 31 * h + lower(c);
+        }
+
+        int slot = spread(h) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.length() == length && equalsLowered(key, item)) {
+                return indexes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param item the input
+     * @return the shared instance of item when it is exactly one of the expected values, else null.
+     */
+    public Object canonical(String item) {
+        if (values.length == 0) {
+            return null;
+        }
+        int index = indexOf(item);
+        return index >= 0 && values[index].equals(item) ? canonical[index] : null;
+    }
+
+    protected int scan(String item) {
+        String lower = item.toLowerCase();
+        for(int i = 0; i < lowered.length; i++) {
+            if (lowered[i].equals(lower)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // key is lower case ascii, item has the same length and is ascii.
+    protected static boolean equalsLowered(String key, String item) {
+        for(int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != lower(item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static int hash(String key) {
+        int h = 0;
+        for(int i = 0; i < key.length(); i++) {
+            h = 31 * h + key.charAt(i);
+        }
+        return spread(h);
+    }
+
+    protected static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    protected static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    protected static boolean isAscii(String s) {
+        for(int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+package net.tokensmith.parser.validator;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.builder.TryBuilder;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.exception.EmptyValueError;
+import net.tokensmith.parser.validator.exception.MoreThanOneItemError;
+import net.tokensmith.parser.validator.exception.NoItemsError;
+import net.tokensmith.parser.validator.exception.ParamIsNullError;
+
+import java.util.List;
+
+
+/**
+ * Validates and builds the input of a field that is not nested. The reflective parsers and the
+ * binder steps both use it, so a field fails the same way on either path.
+ *
+ * Each method takes where failures are collected. If it is null they are thrown, otherwise they are
+ * added to it and INVALID is returned in place of a value.
+ */
+public class FieldValidator {
+    private static String REQ_ERROR = "Required field failed validation";
+    private static String OPT_ERROR = "Optional field failed validation";
+    // returned when a failure was added to errors.
+    public static final Object INVALID = new Object();
+
+    private RequiredParam requiredParam;
+    private OptionalParam optionalParam;
+    private ParserUtils parserUtils;
+
+    public FieldValidator(ParserUtils parserUtils) {
+        this(new RequiredParam(parserUtils.isStackless()), new OptionalParam(parserUtils.isStackless()), parserUtils);
+    }
+
+    public FieldValidator(RequiredParam requiredParam, OptionalParam optionalParam, ParserUtils parserUtils) {
+        this.requiredParam = requiredParam;
+        this.optionalParam = optionalParam;
+        this.parserUtils = parserUtils;
+    }
+
+    /**
+     * @param rules the rules of the field
+     * @param values the input, may be null.
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param errors where failures are added, if null they are thrown.
+     * @return true if values passes the required or optional rules, false if a failure was added to errors.
+     * @throws RequiredException if the field is required and values is empty, null, or has too many items.
+     * @throws OptionalException if the field is optional and values is empty or has too many items.
+     */
+    public boolean validate(FieldRules rules, List<String> values, Object to, List<FieldError> errors) throws RequiredException, OptionalException {
+        boolean required = rules.isRequired();
+        ErrorCode code = required ? requiredParam.check(values, rules.isAllowMany()) : optionalParam.check(values, rules.isAllowMany());
+        if (code == null) {
+            return true;
+        }
+        if (errors != null) {
+            errors.add(new FieldError(rules.getFieldName(), rules.getParamName(), code));
+            return false;
+        }
+
+        // run throws the validator error for the code.
+        if (required) {
+            try {
+                requiredParam.run(values, rules.isAllowMany());
+            } catch (EmptyValueError | MoreThanOneItemError | NoItemsError | ParamIsNullError e) {
+                throw parserUtils.requiredException(REQ_ERROR, e, rules.getFieldName(), rules.getParamName(), to);
+            }
+        } else {
+            try {
+                optionalParam.run(values, rules.isAllowMany());
+            } catch (EmptyValueError | MoreThanOneItemError e) {
+                throw parserUtils.optionalException(OPT_ERROR, e, rules.getFieldName(), rules.getParamName(), to);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param rules the rules of the field
+     * @param values the input, each is a value of a List field.
+     * @return true if any of values is expected.
+     */
+    public boolean isExpected(FieldRules rules, List<String> values) {
+        for(String value: values) {
+            if (rules.getExpected().matches(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks value is expected then builds it.
+     *
+     * @param rules the rules of the field
+     * @param value the input
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param errors where failures are added, if null they are thrown.
+     * @return the built value, INVALID if a failure was added to errors.
+     * @throws RequiredException if value is not expected, or the field is required and value could not be built.
+     * @throws OptionalException if the field is optional and value could not be built.
+     */
+    public Object value(FieldRules rules, String value, Object to, List<FieldError> errors) throws RequiredException, OptionalException {
+        if (!rules.getExpected().matches(value)) {
+            return unsupported(rules, value, to, errors);
+        }
+        return build(rules, value, to, errors);
+    }
+
+    /**
+     * @param rules the rules of the field
+     * @param value the input that is not expected
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param errors where failures are added, if null they are thrown.
+     * @return INVALID
+     * @throws RequiredException if errors is null.
+     */
+    public Object unsupported(FieldRules rules, String value, Object to, List<FieldError> errors) throws RequiredException {
+        if (errors != null) {
+            errors.add(new FieldError(rules.getFieldName(), rules.getParamName(), ErrorCode.UNSUPPORTED_VALUE));
+            return INVALID;
+        }
+        throw parserUtils.unsupported(rules.getFieldName(), rules.getParamName(), value, to);
+    }
+
+    /**
+     * Builds value, an expected value is given its canonical instance instead.
+     *
+     * @param rules the rules of the field
+     * @param value the input
+     * @param to the instance being translated to, it is the target of exceptions.
+     * @param errors where failures are added, if null they are thrown.
+     * @return the built value, INVALID if a failure was added to errors.
+     * @throws RequiredException if the field is required and value could not be built.
+     * @throws OptionalException if the field is optional and value could not be built.
+     */
+    public Object build(FieldRules rules, String value, Object to, List<FieldError> errors) throws RequiredException, OptionalException {
+        Object canonical = rules.getExpected().canonical(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        // when failures are collected a TryBuilder reports them without an exception.
+        if (errors != null && rules.getBuilder() instanceof TryBuilder) {
+            Object item = ((TryBuilder) rules.getBuilder()).tryApply(value);
+            if (item == TryBuilder.INVALID) {
+                errors.add(new FieldError(rules.getFieldName(), rules.getParamName(), ErrorCode.INVALID_VALUE));
+                return INVALID;
+            }
+            return item;
+        }
+        try {
+            return rules.getBuilder().apply(value);
+        } catch (Exception e) {
+            if (errors != null) {
+                errors.add(new FieldError(rules.getFieldName(), rules.getParamName(), ErrorCode.INVALID_VALUE));
+                return INVALID;
+            }
+            if (rules.isRequired()) {
+                throw parserUtils.requiredException(REQ_ERROR, e, rules.getFieldName(), rules.getParamName(), to);
+            }
+            throw parserUtils.optionalException(OPT_ERROR, e, rules.getFieldName(), rules.getParamName(), to);
+        }
+    }
+}
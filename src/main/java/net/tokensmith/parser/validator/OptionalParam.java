@@ -12,6 +12,21 @@ import java.util.List;
 public class OptionalParam {
     private static String EMPTY= "parameter is empty";
     private static String TOO_MANY_VALUES= "parameter is empty";
+    private boolean stackless;
+    // thrown when stackless, they do not have stack traces so they can be shared.
+    private EmptyValueError empty = new EmptyValueError(EMPTY, false);
+    private MoreThanOneItemError tooManyValues = new MoreThanOneItemError(TOO_MANY_VALUES, false);
+
+    public OptionalParam() {
+        this(false);
+    }
+
+    /**
+     * @param stackless if true, the errors thrown do not have stack traces.
+     */
+    public OptionalParam(boolean stackless) {
+        this.stackless = stackless;
+    }
 
     /**
      * Determines if the items passes the rules for a optional field. Which are:
@@ -25,20 +40,39 @@ public class OptionalParam {
      * @throws MoreThanOneItemError if items has more than one item.
      */
     public boolean run(List<String> items, boolean allowMany) throws EmptyValueError, MoreThanOneItemError {
+        ErrorCode code = check(items, allowMany);
+        if (code == null) {
+            return true;
+        }
+
+        if (code == ErrorCode.EMPTY_VALUE) {
+            throw stackless ? empty : new EmptyValueError(EMPTY);
+        }
+        throw stackless ? tooManyValues : new MoreThanOneItemError(TOO_MANY_VALUES);
+    }
+
+    /**
+     * Same rules as run, without throwing.
+     *
+     * @param items the input to validate
+     * @param allowMany if many items are allowed in the input
+     * @return null if items passes, otherwise the rule it failed.
+     */
+    public ErrorCode check(List<String> items, boolean allowMany) {
 
         // optional parameter.
         if( items == null || items.size() == 0 ) {
-            return true;
+            return null;
         }
 
         if(items.get(0).isEmpty()) {
-            throw new EmptyValueError(EMPTY);
+            return ErrorCode.EMPTY_VALUE;
         }
 
         if(!allowMany && items.size() > 1) {
-            throw new MoreThanOneItemError(TOO_MANY_VALUES);
+            return ErrorCode.MORE_THAN_ONE_ITEM;
         }
 
-        return true;
+        return null;
     }
 }
@@ -16,6 +16,23 @@ public class RequiredParam {
     private static String NO_ITEMS="parameter does not have one item";
     private static String EMPTY="parameter had no value";
     private static String TOO_MANY_VALUES="parameter has more than one item";
+    private boolean stackless;
+    // thrown when stackless, they do not have stack traces so they can be shared.
+    private ParamIsNullError isNull = new ParamIsNullError(IS_NULL, false);
+    private NoItemsError noItems = new NoItemsError(NO_ITEMS, false);
+    private EmptyValueError empty = new EmptyValueError(EMPTY, false);
+    private MoreThanOneItemError tooManyValues = new MoreThanOneItemError(TOO_MANY_VALUES, false);
+
+    public RequiredParam() {
+        this(false);
+    }
+
+    /**
+     * @param stackless if true, the errors thrown do not have stack traces.
+     */
+    public RequiredParam(boolean stackless) {
+        this.stackless = stackless;
+    }
 
     /**
      * Determines if the items passes the rules for a required field. Which are:
@@ -33,23 +50,48 @@ public class RequiredParam {
      * @throws ParamIsNullError if items is null
      */
     public boolean run(List<String> items, boolean allowMany) throws EmptyValueError, MoreThanOneItemError, NoItemsError, ParamIsNullError {
+        ErrorCode code = check(items, allowMany);
+        if (code == null) {
+            return true;
+        }
+
+        switch (code) {
+            case PARAM_IS_NULL:
+                throw stackless ? isNull : new ParamIsNullError(IS_NULL);
+            case NO_ITEMS:
+                throw stackless ? noItems : new NoItemsError(NO_ITEMS);
+            case EMPTY_VALUE:
+                throw stackless ? empty : new EmptyValueError(EMPTY);
+            default:
+                throw stackless ? tooManyValues : new MoreThanOneItemError(TOO_MANY_VALUES);
+        }
+    }
+
+    /**
+     * Same rules as run, without throwing.
+     *
+     * @param items the input to validate
+     * @param allowMany if many items are allowed in the input
+     * @return null if items passes, otherwise the rule it failed.
+     */
+    public ErrorCode check(List<String> items, boolean allowMany) {
 
         if(items == null) {
-            throw new ParamIsNullError(IS_NULL);
+            return ErrorCode.PARAM_IS_NULL;
         }
 
         if (items.isEmpty()) {
-            throw new NoItemsError(NO_ITEMS);
+            return ErrorCode.NO_ITEMS;
         }
 
         if (items.get(0).isEmpty()) {
-            throw new EmptyValueError(EMPTY);
+            return ErrorCode.EMPTY_VALUE;
         }
 
         if(!allowMany && items.size() > 1) {
-            throw new MoreThanOneItemError(TOO_MANY_VALUES);
+            return ErrorCode.MORE_THAN_ONE_ITEM;
         }
 
-        return true;
+        return null;
     }
 }
@@ -2,7 +2,40 @@ package net.tokensmith.parser.validator.exception;
 
 
 public class EmptyValueError extends Exception {
+    private String format;
+    private String param;
+
     public EmptyValueError(String message) {
         super(message);
     }
+
+    /**
+     * @param message the message
+     * @param writableStackTrace if false the stack trace is not filled in and suppression is disabled,
+     *                           so one instance can be thrown many times.
+     */
+    public EmptyValueError(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
+
+    /**
+     * The message is formatted from format and param when it is asked for.
+     *
+     * @param format the format of the message, it has one %s for param
+     * @param param the param that failed
+     * @param writableStackTrace if false the stack trace is not filled in.
+     */
+    public EmptyValueError(String format, String param, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.format = format;
+        this.param = param;
+    }
+
+    @Override
+    public String getMessage() {
+        if (format != null) {
+            return String.format(format, param);
+        }
+        return super.getMessage();
+    }
 }
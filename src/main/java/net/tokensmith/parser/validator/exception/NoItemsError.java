@@ -5,4 +5,13 @@ public class NoItemsError extends Exception {
     public NoItemsError(String message) {
         super(message);
     }
+
+    /**
+     * @param message the message
+     * @param writableStackTrace if false the stack trace is not filled in and suppression is disabled,
+     *                           so one instance can be thrown many times.
+     */
+    public NoItemsError(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
 }
@@ -0,0 +1,21 @@
+package helper;
+
+import net.tokensmith.parser.Parameter;
+
+
+public class BoomDummy {
+    @Parameter(name="string")
+    String string;
+
+    public BoomDummy() {
+        throw new IllegalStateException("boom");
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public void setString(String string) {
+        this.string = string;
+    }
+}
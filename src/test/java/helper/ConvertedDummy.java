@@ -0,0 +1,68 @@
+package helper;
+
+import net.tokensmith.parser.LazyURI;
+import net.tokensmith.parser.Parameter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+
+public class ConvertedDummy {
+    @Parameter(name="unit")
+    TimeUnit unit;
+
+    @Parameter(name="timeout")
+    Duration timeout;
+
+    @Parameter(name="locale", required = false)
+    Optional<Locale> locale;
+
+    @Parameter(name="expires", required = false)
+    Optional<Instant> expires;
+
+    @Parameter(name="redirect_uri", required = false)
+    Optional<LazyURI> redirectUri;
+
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    public void setUnit(TimeUnit unit) {
+        this.unit = unit;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Optional<Locale> getLocale() {
+        return locale;
+    }
+
+    public void setLocale(Optional<Locale> locale) {
+        this.locale = locale;
+    }
+
+    public Optional<Instant> getExpires() {
+        return expires;
+    }
+
+    public void setExpires(Optional<Instant> expires) {
+        this.expires = expires;
+    }
+
+    public Optional<LazyURI> getRedirectUri() {
+        return redirectUri;
+    }
+
+    public void setRedirectUri(Optional<LazyURI> redirectUri) {
+        this.redirectUri = redirectUri;
+    }
+}
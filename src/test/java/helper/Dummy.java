@@ -10,42 +10,42 @@ import java.util.UUID;
 
 public class Dummy {
     @Parameter(name="string", expected = {"string1"})
-    private String string;
+    String string;
 
     @Parameter(name="uuid")
-    private UUID id;
+    UUID id;
 
     @Parameter(name="uri")
-    private URI uri;
+    URI uri;
 
     @Parameter(name="strings", parsable = true, expected = {"string1", "string2", "string3"})
-    private List<String> strings;
+    List<String> strings;
 
     @Parameter(name="uuids")
-    private List<UUID> ids;
+    List<UUID> ids;
 
     @Parameter(name="uris")
-    private List<URI> uris;
+    List<URI> uris;
 
     @Parameter(name="opt_string", required = false)
-    private Optional<String> optString;
+    Optional<String> optString;
 
     @Parameter(name="opt_uuid", required = false)
-    private Optional<UUID> optId;
+    Optional<UUID> optId;
 
     @Parameter(name="opt_uri", required = false)
-    private Optional<URI> optUri;
+    Optional<URI> optUri;
 
     @Parameter(name="opt_list", parsable = true, required = false)
-    private List<String> optList;
+    List<String> optList;
 
     private String notAnnotated;
 
     @Parameter(name="nested", nested = true)
-    private DummyTwo nested;
+    DummyTwo nested;
 
     @Parameter(name="opt_nested", nested = true, required = false)
-    private Optional<DummyTwo> optNested;
+    Optional<DummyTwo> optNested;
 
     public String getString() {
         return string;
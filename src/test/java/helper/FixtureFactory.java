@@ -1,5 +1,7 @@
 package helper;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -95,4 +97,19 @@ public class FixtureFactory {
 
         return parameters;
     }
+
+    public static String toQueryString(Map<String, List<String>> parameters) {
+        StringBuilder query = new StringBuilder();
+        for(Map.Entry<String, List<String>> parameter: parameters.entrySet()) {
+            for(String value: parameter.getValue()) {
+                if (query.length() > 0) {
+                    query.append("&");
+                }
+                query.append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8))
+                    .append("=")
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query.toString();
+    }
 }
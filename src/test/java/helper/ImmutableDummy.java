@@ -0,0 +1,54 @@
+package helper;
+
+import net.tokensmith.parser.Parameter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+
+public class ImmutableDummy {
+    @Parameter(name="string", expected = {"string1"})
+    private final String string;
+
+    @Parameter(name="uuid")
+    private final UUID id;
+
+    @Parameter(name="strings", parsable = true, expected = {"string1", "string2", "string3"})
+    private final List<String> strings;
+
+    @Parameter(name="opt_uri", required = false)
+    private final Optional<URI> optUri;
+
+    @Parameter(name="nested", nested = true)
+    private final DummyTwo nested;
+
+    public ImmutableDummy(String string, UUID id, List<String> strings, Optional<URI> optUri, DummyTwo nested) {
+        this.string = string;
+        this.id = id;
+        this.strings = strings;
+        this.optUri = optUri;
+        this.nested = nested;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public List<String> getStrings() {
+        return strings;
+    }
+
+    public Optional<URI> getOptUri() {
+        return optUri;
+    }
+
+    public DummyTwo getNested() {
+        return nested;
+    }
+}
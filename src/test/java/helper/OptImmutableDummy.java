@@ -0,0 +1,30 @@
+package helper;
+
+import net.tokensmith.parser.Parameter;
+
+import java.util.Optional;
+
+
+public class OptImmutableDummy {
+    @Parameter(name="string")
+    String string;
+
+    @Parameter(name="opt", nested = true, required = false)
+    Optional<ImmutableDummy> opt;
+
+    public String getString() {
+        return string;
+    }
+
+    public void setString(String string) {
+        this.string = string;
+    }
+
+    public Optional<ImmutableDummy> getOpt() {
+        return opt;
+    }
+
+    public void setOpt(Optional<ImmutableDummy> opt) {
+        this.opt = opt;
+    }
+}
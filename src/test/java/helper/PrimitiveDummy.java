@@ -0,0 +1,48 @@
+package helper;
+
+import net.tokensmith.parser.Parameter;
+
+
+public class PrimitiveDummy {
+    @Parameter(name="int")
+    private int intValue;
+
+    @Parameter(name="long")
+    private long longValue;
+
+    @Parameter(name="boolean")
+    private boolean booleanValue;
+
+    @Parameter(name="double")
+    private double doubleValue;
+
+    @Parameter(name="boxed_int")
+    private Integer boxedInt;
+
+    @Parameter(name="opt_int", required = false)
+    private int optInt = 7;
+
+    public int getIntValue() {
+        return intValue;
+    }
+
+    public long getLongValue() {
+        return longValue;
+    }
+
+    public boolean isBooleanValue() {
+        return booleanValue;
+    }
+
+    public double getDoubleValue() {
+        return doubleValue;
+    }
+
+    public Integer getBoxedInt() {
+        return boxedInt;
+    }
+
+    public int getOptInt() {
+        return optInt;
+    }
+}
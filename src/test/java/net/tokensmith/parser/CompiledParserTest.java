@@ -0,0 +1,19 @@
+package net.tokensmith.parser;
+
+import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.config.ParserOptions;
+import org.junit.jupiter.api.BeforeEach;
+
+
+/**
+ * Runs the ParserTest cases with the binders made from reflection instead of the generated binders.
+ */
+class CompiledParserTest extends ParserTest {
+
+    @BeforeEach
+    @Override
+    void setUp() {
+        ParserOptions options = new ParserOptions.Builder().generated(false).build();
+        subject = new ParserConfig().parser(options);
+    }
+}
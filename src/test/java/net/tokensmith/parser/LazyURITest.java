@@ -0,0 +1,94 @@
+package net.tokensmith.parser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyURITest {
+
+    @Test
+    public void isValidShouldAcceptWhatURIAccepts() {
+        for(String s: new String[]{
+                "https://tokensmith.net", "https://tokensmith.net:8443/callback?state=a%20b#top",
+                "com.example.app:/oauth2redirect", "urn:ietf:params:oauth:grant-type:jwt-bearer",
+                "/relative/path?x=1", "path", "https://tokensmith.net/caf\u00e9", "mailto:a@tokensmith.net"}) {
+            assertTrue(LazyURI.isValid(s), s);
+            assertEquals(URI.create(s), LazyURI.create(s).toURI());
+        }
+    }
+
+    @Test
+    public void isValidShouldRejectWhatURIRejects() {
+        for(String s: new String[]{
+                "https://tokensmith.net/a b", "https://tokensmith.net/%2", "https://tokensmith.net/%zz",
+                "https://tokensmith.net/#a#b", ":no-scheme", "1https://tokensmith.net", "https:",
+                "https://tokensmith.net/<script>", "https://tokensmith.net/\u00a0", "a\\b"}) {
+            assertFalse(LazyURI.isValid(s), s);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> URI.create(s), s);
+        }
+        assertFalse(LazyURI.isValid(""));
+        assertFalse(LazyURI.isValid(null));
+    }
+
+    @Test
+    public void startsWithShouldMatchAtBoundary() {
+        LazyURI subject = LazyURI.create("https://tokensmith.net/callback?state=1");
+
+        assertTrue(subject.startsWith("https://tokensmith.net"));
+        assertTrue(subject.startsWith("https://tokensmith.net/"));
+        assertTrue(subject.startsWith("https://tokensmith.net/callback"));
+        assertFalse(subject.startsWith("https://tokensmith.net/call"));
+        assertFalse(LazyURI.create("https://tokensmith.net.evil.com").startsWith("https://tokensmith.net"));
+    }
+
+    @Test
+    public void startsWithWhenDotSegmentShouldNotMatch() {
+        String prefix = "https://tokensmith.net/cb";
+
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/../evil").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/%2e%2e/evil").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/%2E./evil").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/..").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/./x").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/..?state=1").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/../evil").startsWith(prefix + "/"));
+        assertFalse(LazyURI.create("https://tokensmith.net/../evil").startsWith("https://tokensmith.net"));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/..;/evil").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/..;jsessionid=1/evil").startsWith(prefix));
+        assertFalse(LazyURI.create("https://tokensmith.net/cb/%2e;x/evil").startsWith(prefix));
+    }
+
+    @Test
+    public void startsWithWhenDotsAreNotASegmentShouldMatch() {
+        String prefix = "https://tokensmith.net/cb";
+
+        assertTrue(LazyURI.create("https://tokensmith.net/cb/...").startsWith(prefix));
+        assertTrue(LazyURI.create("https://tokensmith.net/cb/..x/a.b").startsWith(prefix));
+        assertTrue(LazyURI.create("https://tokensmith.net/cb/x;..").startsWith(prefix));
+        assertTrue(LazyURI.create("https://tokensmith.net/cb/x?next=/../evil").startsWith(prefix));
+        assertTrue(LazyURI.create("https://tokensmith.net/cb/x#/..").startsWith(prefix));
+    }
+
+    @Test
+    public void getHostShouldParse() {
+        LazyURI subject = LazyURI.create("https://tokensmith.net:8443/callback?state=1#top");
+
+        assertEquals("https", subject.getScheme());
+        assertEquals("tokensmith.net", subject.getHost());
+        assertEquals(8443, subject.getPort());
+        assertEquals("/callback", subject.getPath());
+        assertEquals("state=1", subject.getQuery());
+        assertEquals("top", subject.getFragment());
+        assertSame(subject.toURI(), subject.toURI());
+    }
+
+    @Test
+    public void equalsShouldCompareValue() {
+        assertEquals(LazyURI.create("https://tokensmith.net"), LazyURI.create("https://tokensmith.net"));
+        assertEquals("https://tokensmith.net".hashCode(), LazyURI.create("https://tokensmith.net").hashCode());
+        assertNotEquals(LazyURI.create("https://tokensmith.net"), LazyURI.create("https://tokensmith.net/"));
+    }
+}
@@ -0,0 +1,160 @@
+package net.tokensmith.parser;
+
+import helper.Dummy;
+import helper.FixtureFactory;
+import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.validator.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsePublisherTest {
+    private Parser subject;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        subject = new ParserConfig().parser();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private List<Map<String, List<String>>> makeItems(int size) {
+        List<Map<String, List<String>>> items = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+            params.put("uri", Arrays.asList("https://tokensmith.net/" + i));
+            items.add(params);
+        }
+        return items;
+    }
+
+    @Test
+    public void subscribeShouldKeepOrder() throws Exception {
+        List<Map<String, List<String>>> items = makeItems(200);
+        items.get(7).remove("uuid");
+        ListPublisher source = new ListPublisher(items);
+        Collector subscriber = new Collector(Long.MAX_VALUE);
+
+        subject.toPublisher(Dummy.class, source, 4, executor).subscribe(subscriber);
+
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertNull(subscriber.error);
+        assertEquals(200, subscriber.results.size());
+        for(int i = 0; i < 200; i++) {
+            ParseResult<Dummy> result = subscriber.results.get(i);
+            if (i == 7) {
+                assertEquals(ErrorCode.PARAM_IS_NULL, result.getErrors().get(0).getCode());
+            } else {
+                assertEquals(new URI("https://tokensmith.net/" + i), result.getValue().getUri());
+            }
+        }
+        assertTrue(source.maxOutstanding.get() <= 4);
+    }
+
+    @Test
+    public void subscribeShouldNotRequestMoreThanDemand() throws Exception {
+        ListPublisher source = new ListPublisher(makeItems(20));
+        Collector subscriber = new Collector(2);
+
+        subject.toPublisher(Dummy.class, source, 8, executor).subscribe(subscriber);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (subscriber.results.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+
+        assertEquals(2, subscriber.results.size());
+        assertEquals(2, source.requested.get());
+        assertEquals(1, subscriber.completed.getCount());
+    }
+
+    // emits items from a list as they are requested.
+    static class ListPublisher implements Flow.Publisher<Map<String, List<String>>> {
+        private List<Map<String, List<String>>> items;
+        private AtomicLong requested = new AtomicLong();
+        private AtomicLong maxOutstanding = new AtomicLong();
+
+        ListPublisher(List<Map<String, List<String>>> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Map<String, List<String>>> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+                private boolean done;
+
+                @Override
+                public synchronized void request(long n) {
+                    long outstanding = requested.addAndGet(n) - next;
+                    maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                    // onNext may request more before it returns.
+                    while (next < requested.get() && next < items.size()) {
+                        subscriber.onNext(items.get(next++));
+                    }
+                    if (next == items.size() && !done) {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    static class Collector implements Flow.Subscriber<ParseResult<Dummy>> {
+        private long request;
+        private List<ParseResult<Dummy>> results = new CopyOnWriteArrayList<>();
+        private CountDownLatch completed = new CountDownLatch(1);
+        private Throwable error;
+
+        Collector(long request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(request);
+        }
+
+        @Override
+        public void onNext(ParseResult<Dummy> item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -2,28 +2,53 @@ package net.tokensmith.parser;
 
 import net.tokensmith.parser.builder.exception.ConstructException;
 import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.exception.DecodeException;
 import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.ParseException;
 import net.tokensmith.parser.exception.RequiredException;
 import net.tokensmith.parser.exception.ValueException;
+import helper.BoomDummy;
 import helper.FixtureFactory;
 import helper.Dummy;
+import helper.ConvertedDummy;
+import helper.DummyTwo;
+import helper.ImmutableDummy;
+import helper.OptImmutableDummy;
+import helper.PrimitiveDummy;
+import net.tokensmith.parser.config.ParserOptions;
+import net.tokensmith.parser.validator.ErrorCode;
 import net.tokensmith.parser.validator.exception.ParamIsNullError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class ParserTest {
 
-    private Parser subject;
+    protected Parser subject;
 
     // names of fields expected
     private List<String> names = Arrays.asList(
@@ -99,6 +124,94 @@ class ParserTest {
         // TODO: need to inspect nested.
     }
 
+    @Test
+    public void toWhenNestedShouldTranslateNested() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+
+        Dummy actual = subject.to(Dummy.class, params);
+
+        assertNotNull(actual.getNested());
+        assertEquals("string1", actual.getNested().getString());
+        assertEquals(3, actual.getNested().getStrings().size());
+        assertEquals(UUID.fromString(params.get("nested.uuid").get(0)), actual.getNested().getId());
+        assertEquals(new URI(params.get("nested.uri").get(0)), actual.getNested().getUri());
+        assertTrue(actual.getNested().getOptString().isPresent());
+
+        // opt_nested is not in the input.
+        assertNotNull(actual.getOptNested());
+        assertFalse(actual.getOptNested().isPresent());
+    }
+
+    @Test
+    public void fromQueryStringShouldTranslate() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        String query = "?" + FixtureFactory.toQueryString(params) + "&unknown=%E2%82%AC&&";
+
+        Dummy actual = subject.fromQueryString(Dummy.class, query);
+
+        assertEquals("string1", actual.getString());
+        assertEquals(3, actual.getStrings().size());
+        assertEquals(UUID.fromString(params.get("uuid").get(0)), actual.getId());
+        assertEquals(new URI(params.get("uri").get(0)), actual.getUri());
+        assertEquals(new URI(params.get("uri").get(0)), actual.getOptUri().get());
+        assertEquals("opt_list1", actual.getOptList().get(0));
+        assertNotNull(actual.getNested());
+        assertEquals("string1", actual.getNested().getString());
+        assertFalse(actual.getOptNested().isPresent());
+    }
+
+    @Test
+    public void fromQueryStringWhenInvalidEscapeShouldThrowParseException() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        String query = FixtureFactory.toQueryString(params) + "&opt_string=%E";
+
+        ParseException actual = assertThrows(ParseException.class, () -> {
+            subject.fromQueryString(Dummy.class, query);
+        });
+        assertTrue(actual.getCause() instanceof DecodeException);
+    }
+
+    @Test
+    public void fromFormShouldTranslate() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        StringBuilder body = new StringBuilder(FixtureFactory.toQueryString(params));
+        // larger than the buffer.
+        for(int i = 0; i < 2000; i++) {
+            body.append("&unknown").append(i).append("=value");
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        Dummy actual = subject.fromForm(Dummy.class, new ByteArrayInputStream(bytes));
+        Dummy actualChannel = subject.fromForm(Dummy.class, Channels.newChannel(new ByteArrayInputStream(bytes)));
+
+        for(Dummy dummy: Arrays.asList(actual, actualChannel)) {
+            assertEquals("string1", dummy.getString());
+            assertEquals(3, dummy.getStrings().size());
+            assertEquals(UUID.fromString(params.get("uuid").get(0)), dummy.getId());
+            assertEquals(new URI(params.get("uri").get(0)), dummy.getUri());
+            assertEquals("string1", dummy.getNested().getString());
+        }
+    }
+
+    @Test
+    public void fromFormWhenBytesShouldTranslate() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        byte[] bytes = ("unknown=%E2%82%AC&" + FixtureFactory.toQueryString(params)).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 4);
+        direct.put("xx&&".getBytes(StandardCharsets.UTF_8)).put(bytes).flip().position(2);
+
+        Dummy actual = subject.fromForm(Dummy.class, bytes);
+        Dummy actualDirect = subject.fromForm(Dummy.class, direct);
+
+        for(Dummy dummy: Arrays.asList(actual, actualDirect)) {
+            assertEquals("string1", dummy.getString());
+            assertEquals(UUID.fromString(params.get("uuid").get(0)), dummy.getId());
+            assertEquals(new URI(params.get("uri").get(0)), dummy.getUri());
+            assertEquals("string1", dummy.getNested().getString());
+        }
+        assertEquals(2, direct.position());
+    }
+
     @Test
     public void toWhenTypeOptionalEmptyListShouldTranslate() throws Exception {
         Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
@@ -305,6 +418,408 @@ class ParserTest {
         assertNotNull(actual);
     }
 
+    @Test
+    public void tryToShouldTranslate() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+
+        ParseResult<Dummy> actual = subject.tryTo(Dummy.class, params);
+
+        assertTrue(actual.isOk());
+        assertTrue(actual.getErrors().isEmpty());
+        assertEquals("string1", actual.getValue().getString());
+        assertEquals(UUID.fromString(params.get("uuid").get(0)), actual.getValue().getId());
+        assertEquals("string1", actual.getValue().getNested().getString());
+    }
+
+    @Test
+    public void tryToWhenManyFieldsInvalidShouldCollectEveryError() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        params.remove("uri");
+        params.put("string", Arrays.asList("string4"));
+        params.put("opt_uuid", Arrays.asList("not a uuid"));
+        params.put("uuids", Arrays.asList("not a uuid"));
+        params.put("nested.uuid", Arrays.asList("not a uuid"));
+        params.put("nested.uris", Arrays.asList("https://tokensmith.net", "https://tokensmith.net"));
+
+        ParseResult<Dummy> actual = subject.tryTo(Dummy.class, params);
+
+        assertFalse(actual.isOk());
+        assertNull(actual.getValue());
+
+        List<FieldError> errors = actual.getErrors();
+        assertEquals(6, errors.size());
+        assertError(errors, "string", "string", ErrorCode.UNSUPPORTED_VALUE);
+        assertError(errors, "uri", "uri", ErrorCode.PARAM_IS_NULL);
+        assertError(errors, "ids", "uuids", ErrorCode.INVALID_VALUE);
+        assertError(errors, "optId", "opt_uuid", ErrorCode.INVALID_VALUE);
+        assertError(errors, "id", "nested.uuid", ErrorCode.INVALID_VALUE);
+        assertError(errors, "uris", "nested.uris", ErrorCode.MORE_THAN_ONE_ITEM);
+    }
+
+    @Test
+    public void tryToWhenMissingReqNestedFieldShouldHaveError() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeNotNestedParameters();
+
+        ParseResult<Dummy> actual = subject.tryTo(Dummy.class, params);
+
+        assertFalse(actual.isOk());
+        assertEquals(1, actual.getErrors().size());
+        assertError(actual.getErrors(), "nested", "nested", ErrorCode.PARAM_IS_NULL);
+    }
+
+    @Test
+    public void tryToWhenOptNestedFieldEmptyShouldHaveErrorWithFieldName() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        params.put("opt_nested", Arrays.asList("x"));
+
+        ParseResult<Dummy> actual = subject.tryTo(Dummy.class, params);
+
+        assertFalse(actual.isOk());
+        assertEquals(1, actual.getErrors().size());
+        assertError(actual.getErrors(), "optNested", "opt_nested", ErrorCode.EMPTY_VALUE);
+    }
+
+    @Test
+    public void tryToWhenOptNestedConstructedHasBadChildShouldHaveError() throws Exception {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("string", Arrays.asList("1"));
+        params.put("opt.uuid", Arrays.asList("1"));
+
+        ParseResult<OptImmutableDummy> actual = subject.tryTo(OptImmutableDummy.class, params);
+
+        assertFalse(actual.isOk());
+        assertError(actual.getErrors(), "id", "opt.uuid", ErrorCode.INVALID_VALUE);
+    }
+
+    @Test
+    public void toWhenConstructorThrowsShouldThrowParseException() throws Exception {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("string", Arrays.asList("1"));
+
+        ParseException actual = assertThrows(ParseException.class, () -> {
+            subject.to(BoomDummy.class, params);
+        });
+        assertNotNull(actual.getCause());
+    }
+
+    @Test
+    public void toAllShouldKeepOrderAndSummarizeFailures() throws Exception {
+        List<Map<String, List<String>>> from = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+            if (i % 10 == 0) {
+                params.remove("uuid");
+            }
+            params.put("uri", Arrays.asList("https://tokensmith.net/" + i));
+            from.add(params);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BatchResult<Dummy> actual = subject.toAll(Dummy.class, from, pool);
+        pool.shutdown();
+
+        assertEquals(100, actual.size());
+        assertEquals(10, actual.getFailed());
+        assertEquals(Integer.valueOf(10), actual.getErrorCounts().get(ErrorCode.PARAM_IS_NULL));
+        assertEquals(1, actual.getErrorCounts().size());
+        for(int i = 0; i < 100; i++) {
+            ParseResult<Dummy> result = actual.getResults().get(i);
+            if (i % 10 == 0) {
+                assertFalse(result.isOk());
+                assertError(result.getErrors(), "id", "uuid", ErrorCode.PARAM_IS_NULL);
+            } else {
+                assertEquals(new URI("https://tokensmith.net/" + i), result.getValue().getUri());
+            }
+        }
+    }
+
+    @Test
+    public void toAllWhenParallelStreamShouldKeepOrder() throws Exception {
+        List<Map<String, List<String>>> from = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+            params.put("uri", Arrays.asList("https://tokensmith.net/" + i));
+            from.add(params);
+        }
+
+        List<ParseResult<Dummy>> actual = subject.toAll(Dummy.class, from.parallelStream())
+                .collect(Collectors.toList());
+
+        assertEquals(100, actual.size());
+        for(int i = 0; i < 100; i++) {
+            assertEquals(new URI("https://tokensmith.net/" + i), actual.get(i).getValue().getUri());
+        }
+    }
+
+    @Test
+    public void toAsyncShouldTranslate() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+
+        Dummy actual = subject.toAsync(Dummy.class, params).get();
+
+        assertEquals("string1", actual.getString());
+        assertEquals(UUID.fromString(params.get("uuid").get(0)), actual.getId());
+        assertEquals("string1", actual.getNested().getString());
+    }
+
+    @Test
+    public void toAsyncWhenMissingReqFieldShouldCompleteWithRequiredException() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        params.remove("uuid");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        CompletableFuture<Dummy> actual = subject.toAsync(Dummy.class, params, executor);
+
+        ExecutionException e = assertThrows(ExecutionException.class, actual::get);
+        assertTrue(e.getCause() instanceof RequiredException);
+        assertEquals("uuid", ((RequiredException) e.getCause()).getParam());
+        executor.shutdown();
+    }
+
+    @Test
+    public void intoShouldResetAndReuseNested() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        Dummy target = subject.to(Dummy.class, params);
+        DummyTwo nested = target.getNested();
+
+        Map<String, List<String>> next = FixtureFactory.makeForDummyNestedParameters();
+        next.remove("opt_uri");
+        next.put("nested.uri", Arrays.asList("https://tokensmith.net/next"));
+
+        Dummy actual = subject.into(target, next);
+
+        assertSame(target, actual);
+        assertSame(nested, actual.getNested());
+        assertEquals(UUID.fromString(next.get("uuid").get(0)), actual.getId());
+        assertFalse(actual.getOptUri().isPresent());
+        assertEquals(new URI("https://tokensmith.net/next"), actual.getNested().getUri());
+    }
+
+    @Test
+    public void toWhenPooledShouldFillReleasedInstance() throws Exception {
+        Parser pooled = new ParserConfig().parser(new ParserOptions.Builder().poolSize(1).build());
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+
+        Dummy first = pooled.to(Dummy.class, params);
+        pooled.release(first);
+        Map<String, List<String>> next = FixtureFactory.makeForDummyNestedParameters();
+        Dummy second = pooled.to(Dummy.class, next);
+        Dummy third = pooled.to(Dummy.class, next);
+
+        assertSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(UUID.fromString(next.get("uuid").get(0)), second.getId());
+        assertEquals(UUID.fromString(next.get("nested.uuid").get(0)), second.getNested().getId());
+    }
+
+    @Test
+    public void toWhenPooledShouldFillInstanceReleasedOnAnotherThread() throws Exception {
+        Parser pooled = new ParserConfig().parser(new ParserOptions.Builder().poolSize(1).build());
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Dummy first = executor.submit(() -> {
+            Dummy made = pooled.to(Dummy.class, params);
+            pooled.release(made);
+            return made;
+        }).get();
+        executor.shutdown();
+        Dummy second = pooled.to(Dummy.class, params);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void intoWhenFinalFieldsShouldThrowParseException() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        ImmutableDummy target = subject.to(ImmutableDummy.class, params);
+
+        assertThrows(ParseException.class, () -> {
+            subject.into(target, params);
+        });
+    }
+
+    @Test
+    public void toWhenFinalFieldsShouldUseCanonicalConstructor() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+
+        ImmutableDummy actual = subject.to(ImmutableDummy.class, params);
+
+        assertEquals("string1", actual.getString());
+        assertEquals(UUID.fromString(params.get("uuid").get(0)), actual.getId());
+        assertEquals(3, actual.getStrings().size());
+        assertEquals(new URI("https://tokensmith.net"), actual.getOptUri().get());
+        assertEquals("string1", actual.getNested().getString());
+    }
+
+    @Test
+    public void tryToWhenFinalFieldsAndInvalidShouldHaveErrors() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        params.remove("uuid");
+
+        ParseResult<ImmutableDummy> actual = subject.tryTo(ImmutableDummy.class, params);
+
+        assertNull(actual.getValue());
+        assertEquals(1, actual.getErrors().size());
+        assertError(actual.getErrors(), "id", "uuid", ErrorCode.PARAM_IS_NULL);
+    }
+
+    private Map<String, List<String>> makePrimitiveParameters() {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("int", Arrays.asList("-42"));
+        params.put("long", Arrays.asList("9000000000"));
+        params.put("boolean", Arrays.asList("true"));
+        params.put("double", Arrays.asList("1.5"));
+        params.put("boxed_int", Arrays.asList("12"));
+        return params;
+    }
+
+    @Test
+    public void toWhenPrimitiveFieldsShouldTranslate() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+
+        PrimitiveDummy actual = subject.to(PrimitiveDummy.class, params);
+
+        assertEquals(-42, actual.getIntValue());
+        assertEquals(9000000000L, actual.getLongValue());
+        assertTrue(actual.isBooleanValue());
+        assertEquals(1.5d, actual.getDoubleValue());
+        assertEquals(Integer.valueOf(12), actual.getBoxedInt());
+        assertEquals(0, actual.getOptInt());
+    }
+
+    @Test
+    public void toWhenOptionalPrimitivePresentShouldTranslate() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+        params.put("opt_int", Arrays.asList("99"));
+
+        PrimitiveDummy actual = subject.to(PrimitiveDummy.class, params);
+
+        assertEquals(99, actual.getOptInt());
+    }
+
+    @Test
+    public void toWhenOptionalPrimitiveInvalidShouldThrowOptionalException() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+        params.put("opt_int", Arrays.asList("99x"));
+
+        OptionalException actual = assertThrows(OptionalException.class, () -> {
+            subject.to(PrimitiveDummy.class, params);
+        });
+
+        assertEquals("optInt", actual.getField());
+        assertEquals("opt_int", actual.getParam());
+    }
+
+    @Test
+    public void toWhenDoubleIsNaNShouldThrowRequiredException() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+        params.put("double", Arrays.asList("NaN"));
+
+        RequiredException actual = assertThrows(RequiredException.class, () -> {
+            subject.to(PrimitiveDummy.class, params);
+        });
+
+        assertEquals("doubleValue", actual.getField());
+    }
+
+    @Test
+    public void toWhenPrimitiveFieldInvalidShouldThrowRequiredException() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+        params.put("long", Arrays.asList("12x"));
+
+        RequiredException actual = assertThrows(RequiredException.class, () -> {
+            subject.to(PrimitiveDummy.class, params);
+        });
+
+        assertEquals("longValue", actual.getField());
+        assertEquals("long", actual.getParam());
+    }
+
+    @Test
+    public void tryToWhenPrimitiveFieldsInvalidShouldHaveErrors() throws Exception {
+        Map<String, List<String>> params = makePrimitiveParameters();
+        params.put("boolean", Arrays.asList("yes"));
+        params.remove("int");
+
+        ParseResult<PrimitiveDummy> actual = subject.tryTo(PrimitiveDummy.class, params);
+
+        assertEquals(2, actual.getErrors().size());
+        assertError(actual.getErrors(), "booleanValue", "boolean", ErrorCode.INVALID_VALUE);
+        assertError(actual.getErrors(), "intValue", "int", ErrorCode.PARAM_IS_NULL);
+    }
+
+    @Test
+    public void toWhenBuiltInConvertersShouldTranslate() throws Exception {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("unit", Arrays.asList("SECONDS"));
+        params.put("timeout", Arrays.asList("PT30S"));
+        params.put("locale", Arrays.asList("en-US"));
+        params.put("expires", Arrays.asList("2020-01-31T10:15:30Z"));
+        params.put("redirect_uri", Arrays.asList("https://tokensmith.net/callback?state=1"));
+
+        ConvertedDummy actual = subject.to(ConvertedDummy.class, params);
+
+        assertEquals(TimeUnit.SECONDS, actual.getUnit());
+        assertEquals(Duration.ofSeconds(30), actual.getTimeout());
+        assertEquals(Locale.US, actual.getLocale().get());
+        assertEquals(Instant.parse("2020-01-31T10:15:30Z"), actual.getExpires().get());
+        assertTrue(actual.getRedirectUri().get().matches("https://tokensmith.net/callback?state=1"));
+        assertEquals("tokensmith.net", actual.getRedirectUri().get().getHost());
+    }
+
+    @Test
+    public void tryToWhenLazyURIInvalidShouldHaveError() throws Exception {
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("unit", Arrays.asList("SECONDS"));
+        params.put("timeout", Arrays.asList("PT30S"));
+        params.put("redirect_uri", Arrays.asList("https://tokensmith.net/a b"));
+
+        ParseResult<ConvertedDummy> actual = subject.tryTo(ConvertedDummy.class, params);
+
+        assertEquals(1, actual.getErrors().size());
+        assertError(actual.getErrors(), "redirectUri", "redirect_uri", ErrorCode.INVALID_VALUE);
+    }
+
+    @Test
+    public void toWhenExpectedValueShouldBeCanonical() throws Exception {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        String input = new String("string1");
+        params.put("string", Arrays.asList(input));
+
+        Dummy first = subject.to(Dummy.class, params);
+        params.put("string", Arrays.asList(new String("string1")));
+        Dummy second = subject.to(Dummy.class, params);
+
+        assertEquals("string1", first.getString());
+        assertNotSame(input, first.getString());
+        assertSame(first.getString(), second.getString());
+    }
+
+    @Test
+    public void toWhenCaseInsensitiveEnumsShouldTranslate() throws Exception {
+        Parser caseInsensitive = new ParserConfig().parser(new ParserOptions.Builder().caseInsensitiveEnums(true).build());
+        Map<String, List<String>> params = new HashMap<>();
+        params.put("unit", Arrays.asList("seconds"));
+        params.put("timeout", Arrays.asList("PT30S"));
+
+        ConvertedDummy actual = caseInsensitive.to(ConvertedDummy.class, params);
+
+        assertEquals(TimeUnit.SECONDS, actual.getUnit());
+        assertFalse(actual.getLocale().isPresent());
+    }
+
+    private void assertError(List<FieldError> errors, String field, String param, ErrorCode code) {
+        for(FieldError error: errors) {
+            if (error.getParam().equals(param)) {
+                assertEquals(field, error.getField());
+                assertEquals(code, error.getCode());
+                return;
+            }
+        }
+        fail("no error for param " + param + " in " + errors);
+    }
+
     @Test
     public void toWhenMissingReqNestedFieldShouldThrowRequiredException() throws Exception {
         Map<String, List<String>> params = FixtureFactory.makeNotNestedParameters();
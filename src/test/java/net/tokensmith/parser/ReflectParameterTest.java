@@ -50,5 +50,51 @@ class ReflectParameterTest {
         }
     }
 
+    @Test
+    public void reflectShouldMakeSetters() throws Throwable {
+        List<ParamEntity> actuals = subject.reflect(Dummy.class);
+        Dummy dummy = new Dummy();
+
+        for(ParamEntity actual: actuals) {
+            assertNotNull(actual.getSetter(), "no setter for field: " + actual.getField().getName());
+            if ("string".equals(actual.getField().getName())) {
+                actual.getSetter().invokeExact((Object) dummy, (Object) "string1");
+            }
+        }
+        assertEquals("string1", dummy.getString());
+    }
+
+    @Test
+    public void reflectShouldMakePlans() throws Exception {
+        List<ParamEntity> actuals = subject.reflect(Dummy.class);
+
+        for(ParamEntity actual: actuals) {
+            FieldPlan plan = actual.getPlan();
+            assertNotNull(plan, "no plan for field: " + actual.getField().getName());
+            assertEquals(actual.getField().getName(), plan.getFieldName());
+            assertEquals(actual.getParameter().name(), plan.getParamName());
+            assertEquals(actual.getParameter().required(), plan.isRequired());
+            assertEquals(actual.getChildren().size() > 0, plan.isNested());
+            assertEquals(actual.getParameter().expected().length == 0, plan.getRules().getExpected().isEmpty());
+            if (!plan.isNested()) {
+                assertNotNull(plan.getParser(true));
+                assertNotNull(plan.getParser(false));
+            }
+        }
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void reflectShouldBuildCanonicalOnceInPlan() throws Exception {
+        List<ParamEntity> actuals = subject.reflect(Dummy.class);
+
+        ParamEntity string = null;
+        for(ParamEntity actual: actuals) {
+            if ("string".equals(actual.getField().getName())) {
+                string = actual;
+            }
+        }
+        Object canonical = string.getPlan().getRules().getExpected().canonical("string1");
+        assertEquals("string1", canonical);
+        assertSame(canonical, string.getPlan().getRules().getExpected().canonical(new String("string1")));
+    }
+}
@@ -0,0 +1,144 @@
+package net.tokensmith.parser;
+
+import helper.Dummy;
+import net.tokensmith.parser.binder.BinderFactory;
+import net.tokensmith.parser.binder.CompiledBinder;
+import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.exception.ReflectException;
+import net.tokensmith.parser.validator.FieldValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaCacheTest {
+    private ReflectParameter reflectParameter;
+    private BinderFactory binderFactory;
+    private SchemaCache subject;
+
+    @BeforeEach
+    void setUp() {
+        ParserConfig config = new ParserConfig();
+        reflectParameter = config.reflectParameter(config.builders());
+        binderFactory = new BinderFactory(reflectParameter, new FieldValidator(new ParserUtils()), new ParserUtils());
+        subject = new SchemaCache(reflectParameter, binderFactory);
+    }
+
+    @Test
+    public void getWhenGeneratedShouldUseGeneratedBinder() throws Exception {
+        subject = new SchemaCache(reflectParameter, binderFactory, true);
+
+        Schema actual = subject.get(Dummy.class);
+
+        assertNotNull(actual.getBinder());
+        assertNull(actual.getFields());
+        assertEquals("helper.Dummy_ParamBinder", actual.getBinder().getClass().getName());
+    }
+
+    @Test
+    public void getWhenNotGeneratedShouldUseCompiledBinder() throws Exception {
+        Schema actual = subject.get(Dummy.class);
+
+        assertNotNull(actual.getFields());
+        assertTrue(actual.getBinder() instanceof CompiledBinder);
+    }
+
+    @Test
+    public void getShouldReflectOnce() throws Exception {
+        Schema first = subject.get(Dummy.class);
+        Schema second = subject.get(Dummy.class);
+
+        assertNotNull(first);
+        assertNotNull(first.getBinder());
+        assertSame(first, second);
+        assertEquals(1, subject.getMisses());
+        assertEquals(1, subject.getHits());
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    public void getWhenManyThreadsShouldReflectOnce() throws Exception {
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Schema>> futures = new ArrayList<>();
+        for(int i = 0; i < threads; i++) {
+            Callable<Schema> task = () -> {
+                start.await();
+                return subject.get(Dummy.class);
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        Schema expected = futures.get(0).get();
+        for(Future<Schema> future: futures) {
+            assertSame(expected, future.get());
+        }
+        executor.shutdown();
+
+        assertEquals(1, subject.getMisses());
+        assertEquals(threads - 1, subject.getHits());
+    }
+
+    @Test
+    public void getWhenReflectFailsShouldNotKeepIt() throws Exception {
+        assertThrows(ReflectException.class, () -> subject.get(Unbuildable.class));
+        assertThrows(ReflectException.class, () -> subject.get(Unbuildable.class));
+
+        assertEquals(2, subject.getMisses());
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    public void getWhenReflectThrowsErrorShouldNotKeepIt() throws Exception {
+        subject = new SchemaCache(reflectParameter, binderFactory) {
+            private boolean failed;
+
+            @Override
+            protected Schema reflect(Class<?> clazz) throws ReflectException {
+                if (!failed) {
+                    failed = true;
+                    throw new ExceptionInInitializerError("static init failed");
+                }
+                return super.reflect(clazz);
+            }
+        };
+
+        assertThrows(ExceptionInInitializerError.class, () -> subject.get(Dummy.class));
+        assertEquals(0, subject.size());
+
+        Schema actual = subject.get(Dummy.class);
+        assertNotNull(actual.getBinder());
+    }
+
+    @Test
+    public void getWhenReflectThrowsRuntimeExceptionShouldThrowReflectException() throws Exception {
+        subject = new SchemaCache(reflectParameter, binderFactory) {
+            @Override
+            protected Schema reflect(Class<?> clazz) throws ReflectException {
+                throw new IllegalStateException("reflect failed");
+            }
+        };
+
+        ReflectException actual = assertThrows(ReflectException.class, () -> subject.get(Dummy.class));
+
+        assertTrue(actual.getCause() instanceof IllegalStateException);
+        assertEquals(Dummy.class.getName(), actual.getClassName());
+        assertEquals(0, subject.size());
+    }
+
+    public static class Unbuildable {
+        @Parameter(name="thing")
+        private Object thing;
+    }
+}
@@ -0,0 +1,58 @@
+package net.tokensmith.parser;
+
+import helper.Dummy;
+import helper.FixtureFactory;
+import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.config.ParserOptions;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.exception.ParamIsNullError;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ * Runs the ParserTest cases with exceptions that do not have stack traces.
+ */
+class StacklessParserTest extends ParserTest {
+
+    @BeforeEach
+    @Override
+    void setUp() {
+        ParserOptions options = new ParserOptions.Builder().stackless(true).build();
+        subject = new ParserConfig().parser(options);
+    }
+
+    @Test
+    public void toWhenMissingReqFieldShouldNotHaveStackTrace() {
+        Map<String, List<String>> params = FixtureFactory.makeForDummyNestedParameters();
+        params.remove("uuid");
+        params.remove("nested.uuid");
+
+        RequiredException actual = Assertions.assertThrows(RequiredException.class, () -> {
+            subject.to(Dummy.class, params);
+        });
+
+        assertEquals(0, actual.getStackTrace().length);
+        assertEquals(0, actual.getCause().getStackTrace().length);
+        assertEquals("uuid", actual.getParam());
+    }
+
+    @Test
+    public void toWhenMissingReqNestedFieldShouldHaveMessage() {
+        Map<String, List<String>> params = FixtureFactory.makeNotNestedParameters();
+
+        RequiredException actual = Assertions.assertThrows(RequiredException.class, () -> {
+            subject.to(Dummy.class, params);
+        });
+
+        assertTrue(actual.getCause() instanceof ParamIsNullError);
+        assertEquals("Param value for, nested, is null", actual.getCause().getMessage());
+        assertEquals(0, actual.getStackTrace().length);
+    }
+}
@@ -0,0 +1,94 @@
+package net.tokensmith.parser.binder;
+
+import helper.Dummy;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.config.ParserConfig;
+import net.tokensmith.parser.validator.FieldValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyIndexTest {
+    private BinderFactory binderFactory;
+    private KeyIndex subject;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ParserConfig config = new ParserConfig();
+        binderFactory = new BinderFactory(config.reflectParameter(config.builders()), new FieldValidator(new ParserUtils()), new ParserUtils());
+        Binder<Dummy> binder = binderFactory.make(Dummy.class, config.reflectParameter(config.builders()).reflect(Dummy.class));
+        subject = KeyIndex.of(binder);
+    }
+
+    @Test
+    public void readShouldFindValues() {
+        Map<String, List<String>> from = new HashMap<>();
+        from.put("string", Arrays.asList("string1"));
+        from.put("nested.string", Arrays.asList("string2"));
+        from.put("unknown", Arrays.asList("unknown"));
+
+        Input actual = subject.read(from);
+
+        assertEquals(Arrays.asList("string1"), actual.values("string"));
+        assertNull(actual.values("uuid"));
+        assertNull(actual.values("unknown"));
+        assertTrue(actual.has("nested"));
+        assertTrue(actual.hasChildren("nested"));
+        assertEquals(Arrays.asList("string2"), actual.child("nested").values("string"));
+        assertFalse(actual.has("opt_nested"));
+    }
+
+    @Test
+    public void readWhenNestedHasNoChildrenShouldBePresent() {
+        Map<String, List<String>> from = new HashMap<>();
+        from.put("opt_nested", Arrays.asList("string1"));
+        from.put("nested.", Arrays.asList("string1"));
+
+        Input actual = subject.read(from);
+
+        assertTrue(actual.has("opt_nested"));
+        assertFalse(actual.hasChildren("opt_nested"));
+        assertFalse(actual.has("nested"));
+    }
+
+    @Test
+    public void readWhenTrailingDotsShouldIgnoreThem() {
+        Map<String, List<String>> from = new HashMap<>();
+        from.put("nested.string..", Arrays.asList("string2"));
+
+        Input actual = subject.read(from);
+
+        assertTrue(actual.hasChildren("nested"));
+        assertEquals(Arrays.asList("string2"), actual.child("nested").values("string"));
+    }
+
+    @Test
+    public void readWhenKeyOnlyStartsLikeNestedShouldNotMarkIt() {
+        Map<String, List<String>> from = new HashMap<>();
+        from.put("nestedx.string", Arrays.asList("string1"));
+        from.put("opt_nest.string", Arrays.asList("string1"));
+        from.put("opt_nested_and_more_than_any_path", Arrays.asList("string1"));
+        from.put("opt_nested.string.string", Arrays.asList("string1"));
+
+        Input actual = subject.read(from);
+
+        assertFalse(actual.has("nested"));
+        assertTrue(actual.has("opt_nested"));
+        assertTrue(actual.hasChildren("opt_nested"));
+        assertNull(actual.child("opt_nested").values("string"));
+    }
+
+    @Test
+    public void ofWhenParamHasDotShouldBeNull() {
+        FieldStep step = binderFactory.reference("field", "a.b", true, false, new String[]{}, s -> s);
+        Binder<Object> binder = new CompiledBinder<>(Object.class, null, null, new FieldStep[]{step}, null);
+
+        assertNull(KeyIndex.of(binder));
+    }
+}
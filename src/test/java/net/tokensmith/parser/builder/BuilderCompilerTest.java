@@ -0,0 +1,83 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+import net.tokensmith.parser.exception.ReflectException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuilderCompilerTest {
+    private BuilderCompiler subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new BuilderCompiler();
+    }
+
+    @Test
+    public void compileWhenStringConstructorShouldBuild() throws Exception {
+        Function<String, Object> actual = subject.compile(URI.class);
+
+        assertEquals(new URI("https://tokensmith.net"), actual.apply("https://tokensmith.net"));
+    }
+
+    @Test
+    public void compileWhenStaticFactoryShouldBuild() throws Exception {
+        Function<String, Object> actual = subject.compile(Duration.class);
+
+        assertEquals(Duration.ofSeconds(30), actual.apply("PT30S"));
+    }
+
+    @Test
+    public void compileWhenStringShouldReturnInput() throws Exception {
+        Function<String, Object> actual = subject.compile(String.class);
+
+        String input = "string1";
+        assertSame(input, actual.apply(input));
+    }
+
+    @Test
+    public void compileWhenEnumShouldBuildConstant() throws Exception {
+        Function<String, Object> actual = subject.compile(TimeUnit.class);
+
+        assertSame(TimeUnit.SECONDS, actual.apply("SECONDS"));
+        Assertions.assertThrows(ConstructException.class, () -> {
+            actual.apply("seconds");
+        });
+    }
+
+    @Test
+    public void compileWhenEnumAndCaseInsensitiveShouldBuildConstant() throws Exception {
+        subject = new BuilderCompiler(true);
+        Function<String, Object> actual = subject.compile(TimeUnit.class);
+
+        assertSame(TimeUnit.SECONDS, actual.apply("seconds"));
+        assertSame(TimeUnit.SECONDS, actual.apply("Seconds"));
+    }
+
+    @Test
+    public void compileWhenNoConstructorOrFactoryShouldThrowReflectException() {
+        Assertions.assertThrows(ReflectException.class, () -> {
+            subject.compile(Object.class);
+        });
+    }
+
+    @Test
+    public void applyWhenInvalidValueShouldThrowConstructException() throws Exception {
+        Function<String, Object> builder = subject.compile(URI.class);
+
+        ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+            builder.apply("not a uri");
+        });
+        assertEquals("not a uri", actual.getValue());
+        assertTrue(actual.getCause() instanceof URISyntaxException);
+    }
+}
@@ -0,0 +1,55 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConvertersTest {
+    private Map<String, Function<String, Object>> subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = Converters.builders();
+    }
+
+    @Test
+    public void buildersShouldBuildNumbers() {
+        assertEquals((byte) 7, subject.get("java.lang.Byte").apply("7"));
+        assertEquals((short) -7, subject.get("short").apply("-7"));
+        assertEquals(1.25f, subject.get("java.lang.Float").apply("1.25"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), subject.get("java.math.BigInteger").apply("123456789012345678901234567890"));
+        assertEquals(new BigDecimal("1.10"), subject.get("java.math.BigDecimal").apply("1.10"));
+    }
+
+    @Test
+    public void buildersShouldBuildDurationLocaleAndCharset() {
+        assertEquals(Duration.ofMinutes(5), subject.get("java.time.Duration").apply("PT5M"));
+        assertEquals(Locale.US, subject.get("java.util.Locale").apply("en-US"));
+        assertEquals(Locale.US, subject.get("java.util.Locale").apply("en_US"));
+        assertEquals(StandardCharsets.UTF_8, subject.get("java.nio.charset.Charset").apply("utf8"));
+        assertEquals(StandardCharsets.ISO_8859_1, subject.get("java.nio.charset.Charset").apply("ISO-8859-1"));
+    }
+
+    @Test
+    public void buildersWhenInvalidShouldThrowConstructException() {
+        for(String[] invalid: new String[][]{
+                {"java.lang.Byte", "300"}, {"java.math.BigDecimal", "1.1.1"}, {"java.time.Duration", "5 minutes"},
+                {"java.util.Locale", "not a locale"}, {"java.nio.charset.Charset", "not-a-charset"}}) {
+            ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+                subject.get(invalid[0]).apply(invalid[1]);
+            });
+            assertEquals(invalid[1], actual.getValue());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsoTimeTest {
+
+    @Test
+    public void instantShouldMatchJdk() {
+        for(String s: new String[]{
+                "2020-01-31T10:15:30Z", "2020-01-31T10:15:30.5Z", "2020-01-31T10:15:30.123456789Z",
+                "2020-02-29T23:59:59.000001Z", "2020-01-31T10:15:30+05:30", "2020-01-31T00:15:30-01:00",
+                "1969-12-31T23:59:59.999Z", "0000-01-01T00:00:00Z"}) {
+            assertEquals(Instant.parse(s), IsoTime.instant(s), s);
+        }
+    }
+
+    @Test
+    public void offsetDateTimeShouldMatchJdk() {
+        for(String s: new String[]{
+                "2020-01-31T10:15:30Z", "2020-01-31T10:15:30.25+01:00", "2020-01-31T10:15:30-18:00"}) {
+            assertEquals(OffsetDateTime.parse(s), IsoTime.offsetDateTime(s), s);
+        }
+    }
+
+    @Test
+    public void localShouldMatchJdk() {
+        assertEquals(LocalDateTime.parse("2020-01-31T10:15:30.1"), IsoTime.localDateTime("2020-01-31T10:15:30.1"));
+        assertEquals(LocalDate.parse("2020-01-31"), IsoTime.localDate("2020-01-31"));
+    }
+
+    @Test
+    public void whenUnusualFormShouldUseJdk() {
+        // no seconds, leap second, year with a sign.
+        assertEquals(OffsetDateTime.parse("2020-01-31T10:15Z"), IsoTime.offsetDateTime("2020-01-31T10:15Z"));
+        assertEquals(Instant.parse("2016-12-31T23:59:60Z"), IsoTime.instant("2016-12-31T23:59:60Z"));
+        assertEquals(LocalDate.parse("+12020-01-31"), IsoTime.localDate("+12020-01-31"));
+        assertEquals(LocalDateTime.parse("2020-01-31T10:15"), IsoTime.localDateTime("2020-01-31T10:15"));
+    }
+
+    @Test
+    public void whenInvalidShouldThrowConstructException() {
+        Function<String, Object> instant = IsoTime::instant;
+        Function<String, Object> localDate = IsoTime::localDate;
+        Function<String, Object> localDateTime = IsoTime::localDateTime;
+        for(Object[] invalid: new Object[][]{
+                {instant, "2020-13-31T10:15:30Z"}, {instant, "2020-02-30T10:15:30Z"}, {instant, "2020-01-31T10:15:30"},
+                {instant, "2020-01-31T10:15:30+19:00"}, {instant, "2020-01-31T10:15:30.1234567891Z"},
+                {instant, "2020-01-31"}, {localDate, "2020-1-31"}, {localDate, "2020-01-32"},
+                {localDateTime, "2020-01-31T10:15:30Z"}, {localDateTime, "2020-01-31T24:00:00"}}) {
+            @SuppressWarnings("unchecked")
+            Function<String, Object> builder = (Function<String, Object>) invalid[0];
+            ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+                builder.apply((String) invalid[1]);
+            });
+            assertEquals(invalid[1], actual.getValue());
+        }
+    }
+}
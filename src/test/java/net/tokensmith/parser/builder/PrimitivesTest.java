@@ -0,0 +1,62 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitivesTest {
+
+    @Test
+    public void builderShouldParsePrimitiveAndBoxedTypes() {
+        assertEquals(42, Primitives.builder("int").apply("42"));
+        assertEquals(42, Primitives.builder("java.lang.Integer").apply("42"));
+        assertEquals(-9000000000L, Primitives.builder("long").apply("-9000000000"));
+        assertEquals(true, Primitives.builder("boolean").apply("TRUE"));
+        assertEquals(1.5d, Primitives.builder("java.lang.Double").apply("1.5"));
+        assertNull(Primitives.builder("java.lang.String"));
+    }
+
+    @Test
+    public void builderWhenBooleanIsNotTrueOrFalseShouldThrowConstructException() {
+        Function<String, Object> builder = Primitives.builder("boolean");
+
+        ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+            builder.apply("yes");
+        });
+        assertEquals("yes", actual.getValue());
+        assertTrue(actual.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void parseDoubleShouldParseDecimals() {
+        assertEquals(1.5d, Primitives.parseDouble("1.5"));
+        assertEquals(-0.5d, Primitives.parseDouble("-.5"));
+        assertEquals(2.0d, Primitives.parseDouble("+2."));
+        assertEquals(0.0025d, Primitives.parseDouble("2.5e-3"));
+        assertEquals(1.5f, Primitives.parseFloat("1.5"));
+    }
+
+    @Test
+    public void parseDoubleWhenNotFiniteDecimalShouldThrowNumberFormatException() {
+        String[] invalid = {"NaN", "Infinity", "-Infinity", "1.5d", "1.5f", "1.5D", "0x1p3", " 1.5", "1.5 ", ".", "1e", "e5", "", "1e400"};
+        for(String value: invalid) {
+            Assertions.assertThrows(NumberFormatException.class, () -> Primitives.parseDouble(value), value);
+        }
+        Assertions.assertThrows(NumberFormatException.class, () -> Primitives.parseFloat("1e39"));
+        Assertions.assertThrows(NumberFormatException.class, () -> Primitives.parseFloat("NaN"));
+    }
+
+    @Test
+    public void builderWhenDoubleIsNaNShouldThrowConstructException() {
+        Function<String, Object> builder = Primitives.builder("double");
+
+        ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+            builder.apply("NaN");
+        });
+        assertEquals("NaN", actual.getValue());
+    }
+}
@@ -0,0 +1,49 @@
+package net.tokensmith.parser.builder;
+
+import net.tokensmith.parser.builder.exception.ConstructException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UUIDBuilderTest {
+    private UUIDBuilder subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new UUIDBuilder();
+    }
+
+    @Test
+    public void applyShouldMatchFromString() {
+        for(int i = 0; i < 100; i++) {
+            UUID expected = UUID.randomUUID();
+            assertEquals(expected, subject.apply(expected.toString()));
+            assertEquals(expected, subject.apply(expected.toString().toUpperCase()));
+        }
+        assertEquals(new UUID(-1L, -1L), subject.apply("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+        assertEquals(new UUID(0L, 0L), subject.apply("00000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    public void tryApplyWhenInvalidShouldBeInvalid() {
+        for(String invalid: new String[]{
+                null, "", "1-1-1-1-1", "not a uuid", "123e4567-e89b-12d3-a456-42661417400",
+                "123e4567-e89b-12d3-a456-4266141740000", "123e4567e-89b-12d3-a456-426614174000",
+                "123e4567-e89b-12d3-a456-42661417400g", "123e4567-e89b-12d3-a456-42661417400\u0660"}) {
+            assertSame(TryBuilder.INVALID, subject.tryApply(invalid), invalid);
+        }
+    }
+
+    @Test
+    public void applyWhenInvalidShouldThrowConstructException() {
+        ConstructException actual = Assertions.assertThrows(ConstructException.class, () -> {
+            subject.apply("not a uuid");
+        });
+        assertEquals("not a uuid", actual.getValue());
+        assertTrue(actual.getCause() instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,74 @@
+package net.tokensmith.parser.factory.simple;
+
+import helper.Dummy;
+import net.tokensmith.parser.FieldPlan;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.ParamEntity;
+import net.tokensmith.parser.Parameter;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.exception.ParseException;
+import net.tokensmith.parser.validator.ExpectedValues;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+class ReferenceTypeParserTest {
+    private ReferenceTypeParser subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new ReferenceTypeParser(new ParserUtils());
+    }
+
+    private ParamEntity makeField(Throwable thrown) throws Exception {
+        Field field = Dummy.class.getDeclaredField("string");
+        MethodHandle setter = MethodHandles.dropArguments(
+            MethodHandles.throwException(void.class, Throwable.class).bindTo(thrown), 0, Object.class, Object.class
+        );
+        Parameter p = field.getAnnotation(Parameter.class);
+        ParamEntity entity = new ParamEntity.Builder()
+                .field(field)
+                .setter(setter)
+                .parameter(p)
+                .clazz(String.class)
+                .builder(s -> s)
+                .build();
+        entity.setPlan(new FieldPlan(
+            new FieldRules(field.getName(), p.name(), p.required(), p.allowMany(), ExpectedValues.of(p.expected()), s -> s),
+            false, subject, null, null, null, null
+        ));
+        return entity;
+    }
+
+    @Test
+    public void parseWhenSetterThrowsErrorShouldRethrowIt() throws Exception {
+        ParamEntity field = makeField(new StackOverflowError());
+
+        Assertions.assertThrows(StackOverflowError.class, () -> {
+            subject.parse(new Dummy(), field, Arrays.asList("string1"));
+        });
+    }
+
+    @Test
+    public void parseWhenSetterThrowsRuntimeExceptionShouldRethrowIt() throws Exception {
+        ParamEntity field = makeField(new ClassCastException());
+
+        Assertions.assertThrows(ClassCastException.class, () -> {
+            subject.parse(new Dummy(), field, Arrays.asList("string1"));
+        });
+    }
+
+    @Test
+    public void parseWhenSetterThrowsCheckedShouldWrapIt() throws Exception {
+        ParamEntity field = makeField(new Exception("checked"));
+
+        Assertions.assertThrows(ParseException.class, () -> {
+            subject.parse(new Dummy(), field, Arrays.asList("string1"));
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package net.tokensmith.parser.form;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormStreamScannerTest {
+    private FormStreamScanner subject;
+
+    @BeforeEach
+    void setUp() {
+        // a small buffer so pairs and escapes are split between reads.
+        subject = new FormStreamScanner(new PercentDecoder(), 3, 8);
+    }
+
+    @Test
+    public void scanShouldDecodePairs() throws Exception {
+        String body = "a=1&b=https%3A%2F%2Ftokensmith.net&a=%E2%82%AC+2&&c&=d&f%C3%A9=e";
+        FormMap sink = new FormMap(new PercentDecoder());
+
+        subject.scan(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), sink);
+
+        Map<String, List<String>> actual = sink.getFrom();
+        assertEquals(Arrays.asList("1", "\u20ac 2"), actual.get("a"));
+        assertEquals(Arrays.asList("https://tokensmith.net"), actual.get("b"));
+        assertEquals(Arrays.asList(""), actual.get("c"));
+        assertEquals(Arrays.asList("d"), actual.get(""));
+        assertEquals(Arrays.asList("e"), actual.get("f\u00e9"));
+        assertEquals(5, actual.size());
+    }
+
+    @Test
+    public void scanWhenKeyIsTooLongShouldSkipIt() throws Exception {
+        String body = "a=1&abcdefghi=2&abcdefgh=3";
+        FormMap sink = new FormMap(new PercentDecoder());
+
+        subject.scan(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), sink);
+
+        Map<String, List<String>> actual = sink.getFrom();
+        assertEquals(2, actual.size());
+        assertEquals(Arrays.asList("1"), actual.get("a"));
+        assertEquals(Arrays.asList("3"), actual.get("abcdefgh"));
+    }
+
+    @Test
+    public void scanWhenValueIsTooLongShouldSkipIt() throws Exception {
+        subject = new FormStreamScanner(new PercentDecoder(), 3, 8, 6, 4);
+        String body = "a=123456&b=1234567&a=1234567&c=%41%42";
+        FormMap sink = new FormMap(new PercentDecoder());
+
+        subject.scan(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), sink);
+
+        Map<String, List<String>> actual = sink.getFrom();
+        assertEquals(Arrays.asList("123456"), actual.get("a"));
+        assertTrue(actual.get("b").isEmpty());
+        assertEquals(Arrays.asList("AB"), actual.get("c"));
+    }
+
+    @Test
+    public void scanWhenKeyIsRepeatedShouldKeepMaxValues() throws Exception {
+        subject = new FormStreamScanner(new PercentDecoder(), 3, 8, 6, 4);
+        StringBuilder body = new StringBuilder("b=0");
+        for(int i = 0; i < 1000; i++) {
+            body.append("&a=").append(i);
+        }
+        body.append("&b=1");
+        FormMap sink = new FormMap(new PercentDecoder());
+
+        subject.scan(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), sink);
+
+        Map<String, List<String>> actual = sink.getFrom();
+        assertEquals(Arrays.asList("0", "1", "2", "3"), actual.get("a"));
+        assertEquals(Arrays.asList("0", "1"), actual.get("b"));
+    }
+
+    @Test
+    public void scanWhenTooManyKeysShouldSkipLaterKeys() throws Exception {
+        StringBuilder body = new StringBuilder("a=0");
+        for(int i = 0; i < 1000; i++) {
+            body.append("&k").append(i).append("=").append(i);
+        }
+        body.append("&a=1");
+        FormMap sink = new FormMap(new PercentDecoder(), 3);
+
+        subject.scan(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), sink);
+
+        Map<String, List<String>> actual = sink.getFrom();
+        assertEquals(3, actual.size());
+        assertEquals(Arrays.asList("0", "1"), actual.get("a"));
+        assertEquals(Arrays.asList("0"), actual.get("k0"));
+        assertEquals(Arrays.asList("1"), actual.get("k1"));
+    }
+}
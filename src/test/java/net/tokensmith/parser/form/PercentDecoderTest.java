@@ -0,0 +1,63 @@
+package net.tokensmith.parser.form;
+
+import net.tokensmith.parser.exception.DecodeException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PercentDecoderTest {
+    private PercentDecoder subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new PercentDecoder();
+    }
+
+    @Test
+    public void decodeWhenNotEncodedShouldNotCopy() throws Exception {
+        String input = "string1";
+
+        String actual = subject.decode(input, 0, input.length());
+
+        assertSame(input, actual);
+    }
+
+    @Test
+    public void decodeShouldDecodeRange() throws Exception {
+        String input = "a=https%3A%2F%2Ftokensmith.net%2Fa+b&c";
+
+        String actual = subject.decode(input, 2, input.length() - 2);
+
+        assertEquals("https://tokensmith.net/a b", actual);
+    }
+
+    @Test
+    public void decodeWhenUtf8ShouldDecode() throws Exception {
+        String input = "%E2%82%AC+caf\u00e9+\ud83d\ude00";
+
+        String actual = subject.decode(input, 0, input.length());
+
+        assertEquals("\u20ac caf\u00e9 \ud83d\ude00", actual);
+    }
+
+    @Test
+    public void decodeWhenEscapeIsShortShouldThrowDecodeException() {
+        String input = "abc%4";
+
+        DecodeException actual = Assertions.assertThrows(DecodeException.class, () -> {
+            subject.decode(input, 0, input.length());
+        });
+        assertEquals(3, actual.getIndex());
+    }
+
+    @Test
+    public void decodeWhenEscapeIsNotHexShouldThrowDecodeException() {
+        String input = "%zz";
+
+        Assertions.assertThrows(DecodeException.class, () -> {
+            subject.decode(input, 0, input.length());
+        });
+    }
+}
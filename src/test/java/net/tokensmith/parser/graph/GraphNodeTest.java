@@ -0,0 +1,82 @@
+package net.tokensmith.parser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphNodeTest {
+
+    @Test
+    public void buildShouldKeepChildren() {
+        LinkedHashMap<String, GraphNode<String>> children = new LinkedHashMap<>();
+        GraphNode<String> parent = new GraphNode.Builder<String>().id("parent").build();
+
+        GraphNode<String> actual = new GraphNode.Builder<String>()
+                .id("id")
+                .data("data")
+                .parent(parent)
+                .children(children)
+                .build();
+        actual.addChild("child", new GraphNode<>("child data", "child"));
+
+        assertSame(children, actual.getChildren());
+        assertEquals(1, children.size());
+        assertTrue(actual.hasChildren());
+        assertEquals("child data", actual.getChild("child").getData());
+    }
+
+    @Test
+    public void insertWithIteratorShouldAddPath() {
+        GraphNode<String> subject = new GraphNode<>(null, "root");
+        List<String> keys = Arrays.asList("a", "b", "c");
+
+        GraphNode<String> actual = subject.insert(keys.listIterator(), "data");
+
+        assertEquals("c", actual.getId());
+        assertEquals("data", actual.getData());
+        assertNull(subject.getChild("a").getData());
+        assertSame(actual, subject.getChild("a").getChild("b").getChild("c"));
+    }
+
+    @Test
+    public void insertWithKeyShouldAddPath() {
+        GraphNode<String> subject = new GraphNode<>(null, "root");
+
+        GraphNode<String> actual = subject.insert("root.a.b", 5, 8, "data");
+
+        assertEquals("b", actual.getId());
+        assertSame(actual, subject.getChild("a").getChild("b"));
+    }
+
+    @Test
+    public void getChildrenWhenCompactShouldKeepOrderAndChanges() {
+        GraphNode<String> subject = new GraphNode<>(null, "root");
+        List<String> ids = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            ids.add("child" + i);
+            subject.addChild("child" + i, new GraphNode<>(null, "child" + i));
+        }
+        assertEquals(ids, new ArrayList<>(subject.getChildMap().keySet()));
+
+        LinkedHashMap<String, GraphNode<String>> actual = subject.getChildren();
+        assertEquals(ids, new ArrayList<>(actual.keySet()));
+
+        actual.remove("child0");
+        assertNull(subject.getChild("child0"));
+        assertSame(actual, subject.getChildren());
+    }
+
+    @Test
+    public void getChildrenWhenLeafShouldBeEmpty() {
+        GraphNode<String> subject = new GraphNode<>("data", "leaf");
+
+        assertFalse(subject.hasChildren());
+        assertTrue(subject.getChildMap().isEmpty());
+        assertTrue(subject.getChildren().isEmpty());
+    }
+}
@@ -5,6 +5,8 @@ import net.tokensmith.parser.model.NodeData;
 import org.junit.jupiter.api.Test;
 
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -113,6 +115,27 @@ class GraphTranslatorTest {
         assertEquals("id", actual.get(2));
     }
 
+    @Test
+    public void toWhenTrailingDotsShouldIgnoreThem() {
+        Map<String, List<String>> from = new HashMap<>();
+        from.put("nested.string..", Arrays.asList("string1"));
+        from.put("string.", Arrays.asList("string2"));
+
+        Map<String, GraphNode<NodeData>> actual = subject().to(from);
+
+        assertEquals(2, actual.size());
+        assertGraphNode(toNode(actual.get("nested"), "string"), "string", 1, from.get("nested.string.."));
+        assertGraphNode(actual.get("string."), "string.", 1, from.get("string."));
+        assertFalse(actual.get("string.").hasChildren());
+    }
+
+    @Test
+    public void matchesWithTrailingDotsShouldBeOk() {
+        assertEquals(Arrays.asList("nested", "", "id"), subject().matches("nested..id."));
+        assertEquals(Arrays.asList("id"), subject().matches("id.."));
+        assertEquals(Arrays.asList(), subject().matches("."));
+    }
+
     public void assertGraphNode(GraphNode<NodeData> actual, String key, int length, List<String> values) {
         assertNotNull(actual.getData());
         assertEquals(key, actual.getData().getKey());
@@ -0,0 +1,93 @@
+package net.tokensmith.parser.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectedValuesTest {
+
+    @Test
+    public void matchesShouldIgnoreCase() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"code", "Token", "id_token"});
+
+        assertTrue(subject.matches("code"));
+        assertTrue(subject.matches("CODE"));
+        assertTrue(subject.matches("token"));
+        assertTrue(subject.matches("ID_Token"));
+        assertFalse(subject.matches("cod"));
+        assertFalse(subject.matches("codes"));
+        assertFalse(subject.matches(""));
+        assertEquals(1, subject.indexOf("TOKEN"));
+    }
+
+    @Test
+    public void matchesWhenNoneShouldBeTrue() {
+        assertTrue(ExpectedValues.of(new String[0]).matches("anything"));
+        assertSame(ExpectedValues.NONE, ExpectedValues.of(new String[0]));
+    }
+
+    @Test
+    public void matchesWhenManyShouldFindEach() {
+        String[] values = new String[1000];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = "scope" + i;
+        }
+        ExpectedValues subject = new ExpectedValues(values);
+
+        for(int i = 0; i < values.length; i++) {
+            assertEquals(i, subject.indexOf("SCOPE" + i));
+        }
+        assertEquals(-1, subject.indexOf("scope1000"));
+    }
+
+    @Test
+    public void matchesWhenDuplicatesShouldFindFirst() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"code", "CODE"});
+
+        assertEquals(0, subject.indexOf("Code"));
+    }
+
+    @Test
+    public void matchesWhenNotAsciiShouldUseToLowerCase() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"key"});
+        // the kelvin sign is lower cased to k.
+        assertTrue(subject.matches("\u212Aey"));
+
+        subject = new ExpectedValues(new String[]{"caf\u00e9"});
+        assertTrue(subject.matches("CAF\u00c9"));
+        assertFalse(subject.matches("cafe"));
+    }
+
+    @Test
+    public void canonicalShouldBeSharedWhenExact() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"code", "token"}, s -> s);
+
+        Object actual = subject.canonical(new String("code"));
+        assertSame(actual, subject.canonical(new String("code")));
+        assertEquals("code", actual);
+        // not exact, it is built from the input.
+        assertNull(subject.canonical("CODE"));
+        assertNull(subject.canonical("other"));
+    }
+
+    @Test
+    public void canonicalShouldBeConverted() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"SECONDS", "bad"}, TimeUnit::valueOf);
+
+        assertSame(TimeUnit.SECONDS, subject.canonical("SECONDS"));
+        // the builder failed, so it fails again when it is input.
+        assertNull(subject.canonical("bad"));
+    }
+
+    @Test
+    public void canonicalWhenMutableShouldBeNull() {
+        ExpectedValues subject = new ExpectedValues(new String[]{"a"}, s -> new ArrayList<>(List.of(s)));
+
+        assertNull(subject.canonical("a"));
+        assertNull(new ExpectedValues(new String[]{"a"}).canonical("a"));
+    }
+}
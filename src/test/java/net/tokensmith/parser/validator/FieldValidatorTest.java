@@ -0,0 +1,123 @@
+package net.tokensmith.parser.validator;
+
+import net.tokensmith.parser.FieldError;
+import net.tokensmith.parser.FieldRules;
+import net.tokensmith.parser.ParserUtils;
+import net.tokensmith.parser.exception.OptionalException;
+import net.tokensmith.parser.exception.RequiredException;
+import net.tokensmith.parser.validator.exception.ParamIsNullError;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldValidatorTest {
+
+    private FieldValidator subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new FieldValidator(new ParserUtils());
+    }
+
+    private FieldRules makeRules(boolean required, String... expected) {
+        return new FieldRules("count", "count_param", required, false, ExpectedValues.of(expected, Integer::valueOf), Integer::valueOf);
+    }
+
+    @Test
+    public void validateWhenRequiredAndNullShouldThrowWithTarget() throws Exception {
+        Object to = new Object();
+
+        RequiredException actual = Assertions.assertThrows(RequiredException.class, () -> {
+            subject.validate(makeRules(true), null, to, null);
+        });
+        assertEquals("count", actual.getField());
+        assertEquals("count_param", actual.getParam());
+        assertSame(to, actual.getTarget());
+        assertTrue(actual.getCause() instanceof ParamIsNullError);
+    }
+
+    @Test
+    public void validateWhenRequiredAndNullShouldAddError() throws Exception {
+        List<FieldError> errors = new ArrayList<>();
+
+        boolean actual = subject.validate(makeRules(true), null, null, errors);
+
+        assertFalse(actual);
+        assertEquals(1, errors.size());
+        assertEquals("count", errors.get(0).getField());
+        assertEquals("count_param", errors.get(0).getParam());
+        assertEquals(ErrorCode.PARAM_IS_NULL, errors.get(0).getCode());
+    }
+
+    @Test
+    public void validateWhenOptionalAndNullShouldBeOk() throws Exception {
+        boolean actual = subject.validate(makeRules(false), null, null, null);
+
+        assertTrue(actual);
+    }
+
+    @Test
+    public void valueWhenNotExpectedShouldThrow() throws Exception {
+        Assertions.assertThrows(RequiredException.class, () -> {
+            subject.value(makeRules(false, "1", "2"), "3", null, null);
+        });
+    }
+
+    @Test
+    public void valueWhenNotExpectedShouldAddError() throws Exception {
+        List<FieldError> errors = new ArrayList<>();
+
+        Object actual = subject.value(makeRules(false, "1", "2"), "3", null, errors);
+
+        assertSame(FieldValidator.INVALID, actual);
+        assertEquals(ErrorCode.UNSUPPORTED_VALUE, errors.get(0).getCode());
+    }
+
+    @Test
+    public void valueWhenExpectedShouldBeCanonical() throws Exception {
+        FieldRules rules = makeRules(true, "1000", "2000");
+
+        Object actual = subject.value(rules, "1000", null, null);
+
+        assertEquals(1000, actual);
+        assertSame(actual, subject.value(rules, "1000", null, null));
+    }
+
+    @Test
+    public void buildWhenOptionalAndInvalidShouldThrowOptionalException() throws Exception {
+        Assertions.assertThrows(OptionalException.class, () -> {
+            subject.build(makeRules(false), "abc", null, null);
+        });
+    }
+
+    @Test
+    public void buildWhenRequiredAndInvalidShouldThrowRequiredException() throws Exception {
+        Assertions.assertThrows(RequiredException.class, () -> {
+            subject.build(makeRules(true), "abc", null, null);
+        });
+    }
+
+    @Test
+    public void buildWhenInvalidShouldAddError() throws Exception {
+        List<FieldError> errors = new ArrayList<>();
+
+        Object actual = subject.build(makeRules(true), "abc", null, errors);
+
+        assertSame(FieldValidator.INVALID, actual);
+        assertEquals(ErrorCode.INVALID_VALUE, errors.get(0).getCode());
+    }
+
+    @Test
+    public void isExpectedWhenAnyIsExpectedShouldBeTrue() throws Exception {
+        FieldRules rules = makeRules(true, "1", "2");
+
+        assertTrue(subject.isExpected(rules, Arrays.asList("3", "2")));
+        assertFalse(subject.isExpected(rules, Arrays.asList("3", "4")));
+    }
+}
@@ -36,6 +36,37 @@ class RequiredParamTest {
         assertTrue(actual);
     }
 
+    @Test
+    public void checkShouldReturnErrorCode() {
+        List<String> empty = new ArrayList<>();
+        List<String> blank = new ArrayList<>();
+        blank.add("");
+        List<String> many = makeItems();
+        many.add("item2");
+
+        assertNull(subject.check(makeItems(), false));
+        assertNull(subject.check(many, true));
+        assertEquals(ErrorCode.PARAM_IS_NULL, subject.check(null, false));
+        assertEquals(ErrorCode.NO_ITEMS, subject.check(empty, false));
+        assertEquals(ErrorCode.EMPTY_VALUE, subject.check(blank, false));
+        assertEquals(ErrorCode.MORE_THAN_ONE_ITEM, subject.check(many, false));
+    }
+
+    @Test
+    public void runWhenStacklessShouldThrowSharedError() {
+        subject = new RequiredParam(true);
+
+        ParamIsNullError first = Assertions.assertThrows(ParamIsNullError.class, () -> {
+            subject.run(null, false);
+        });
+        ParamIsNullError second = Assertions.assertThrows(ParamIsNullError.class, () -> {
+            subject.run(null, false);
+        });
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+    }
+
     @Test
     public void runWhenIsNullShouldThrowParamIsNullError() throws Exception {
         List<String> items = null;